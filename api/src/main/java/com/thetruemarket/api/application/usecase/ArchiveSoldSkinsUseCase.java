@@ -0,0 +1,51 @@
+package com.thetruemarket.api.application.usecase;
+
+import com.thetruemarket.api.domain.repository.SkinRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Use Case for moving old SOLD skins out of the live skins table
+ * Skins marked as SOLD for longer than the configured age are moved to skins_archive,
+ * so scans and indexes of the hot table only cover the live working set.
+ *
+ * The move is set-based and chunked: each chunk is one statement committed on its own.
+ *
+ * Implements the Single Responsibility Principle (SOLID)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArchiveSoldSkinsUseCase {
+    private final SkinRepository skinRepository;
+
+    @Value("${skin.archive.sold-age-hours:168}")
+    private int soldAgeHours;
+
+    @Value("${skin.archive.batch-size:5000}")
+    private int batchSize;
+
+    /**
+     * Archives every skin marked as SOLD more than the configured number of hours ago
+     *
+     * @return Number of skins archived
+     */
+    public int execute() {
+        LocalDateTime soldBefore = LocalDateTime.now().minusHours(soldAgeHours);
+
+        log.debug("Archiving skins marked as SOLD before {}", soldBefore);
+
+        int archivedCount = 0;
+        int archived;
+        do {
+            archived = skinRepository.archiveSold(soldBefore, batchSize);
+            archivedCount += archived;
+        } while (archived >= batchSize);
+
+        return archivedCount;
+    }
+}
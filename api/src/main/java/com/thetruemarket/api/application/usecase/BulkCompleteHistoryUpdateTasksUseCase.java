@@ -0,0 +1,170 @@
+package com.thetruemarket.api.application.usecase;
+
+import com.thetruemarket.api.domain.event.PriceHistoryRecordedEvent;
+import com.thetruemarket.api.domain.model.HistoryCompletionOutcome;
+import com.thetruemarket.api.domain.model.HistoryFreshness;
+import com.thetruemarket.api.domain.model.HistoryUpdateResult;
+import com.thetruemarket.api.domain.model.HistoryUpdateTask;
+import com.thetruemarket.api.domain.model.SteamPriceHistory;
+import com.thetruemarket.api.domain.repository.HistoryUpdateTaskRepository;
+import com.thetruemarket.api.domain.repository.PriceVolatilityRepository;
+import com.thetruemarket.api.domain.repository.SteamPriceHistoryRepository;
+import com.thetruemarket.api.domain.service.CurrencyConversionService;
+import com.thetruemarket.api.domain.valueobject.TaskStatus;
+import com.thetruemarket.api.infrastructure.config.HistoryConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case for completing many history update tasks at once
+ * Same rules as CompleteHistoryUpdateTaskUseCase, but validates every result against
+ * tasks loaded in one query, converts all prices with one exchange rate snapshot,
+ * records the history in JDBC batches (new rows only for changed prices) and completes the tasks in one UPDATE,
+ * all in a single transaction
+ * Invalid results are rejected individually without failing the others, including results
+ * for tasks no longer IN_PROGRESS: results are delivered at least once and an expired lease
+ * lets two workers finish the same task, so only the first result of a task is recorded
+ * Implements the Single Responsibility Principle (SOLID)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkCompleteHistoryUpdateTasksUseCase {
+    private final HistoryUpdateTaskRepository taskRepository;
+    private final SteamPriceHistoryRepository priceHistoryRepository;
+    private final PriceVolatilityRepository priceVolatilityRepository;
+    private final CurrencyConversionService currencyConversionService;
+    private final HistoryConfig historyConfig;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Completes every valid result and reports the outcome of each one
+     *
+     * @param results Scraped prices, one per task
+     * @return One outcome per result, in the same order
+     * @throws IllegalArgumentException if the batch exceeds history.update.max-complete-batch-size
+     */
+    @Transactional
+    public List<HistoryCompletionOutcome> execute(List<HistoryUpdateResult> results) {
+        if (results.size() > historyConfig.getMaxCompleteBatchSize()) {
+            throw new IllegalArgumentException(String.format("Batch of %d results exceeds the maximum of %d",
+                    results.size(), historyConfig.getMaxCompleteBatchSize()));
+        }
+
+        // Load and lock every referenced task in one query; a concurrent completion of the
+        // same task waits here and then sees it COMPLETED
+        Set<Long> taskIds = results.stream()
+                .map(HistoryUpdateResult::getTaskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, HistoryUpdateTask> tasksById = taskRepository.findAllByIdForUpdate(taskIds).stream()
+                .collect(Collectors.toMap(HistoryUpdateTask::getId, Function.identity()));
+
+        // Validate each result against its task
+        List<HistoryCompletionOutcome> outcomes = new ArrayList<>(results.size());
+        List<HistoryUpdateResult> accepted = new ArrayList<>();
+        Set<Long> seenTaskIds = new HashSet<>();
+        for (HistoryUpdateResult result : results) {
+            String error = validate(result, tasksById.get(result.getTaskId()));
+            if (error == null && !seenTaskIds.add(result.getTaskId())) {
+                error = "Duplicate result for task ID: " + result.getTaskId();
+            }
+
+            if (error != null) {
+                outcomes.add(HistoryCompletionOutcome.rejected(result.getTaskId(), error));
+            } else {
+                outcomes.add(HistoryCompletionOutcome.completed(result.getTaskId()));
+                accepted.add(result);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            complete(accepted);
+        }
+
+        log.info("Bulk completion: {} of {} results completed", accepted.size(), results.size());
+
+        return outcomes;
+    }
+
+    private void complete(List<HistoryUpdateResult> accepted) {
+        // One rate snapshot for the whole batch
+        double rate = currencyConversionService.getBrlToUsdRate();
+
+        List<SteamPriceHistory> histories = new ArrayList<>(accepted.size());
+        for (HistoryUpdateResult result : accepted) {
+            histories.add(SteamPriceHistory.create(
+                    null, // skinId is optional for now
+                    result.getSkinName(),
+                    result.getWear(),
+                    currencyConversionService.convertBrlToUsd(result.getAveragePriceInBrl(), rate),
+                    currencyConversionService.convertBrlToUsd(result.getLastSalePriceInBrl(), rate),
+                    result.getLowestBuyOrderPriceInUsd()
+            ));
+        }
+
+        int inserted = priceHistoryRepository.recordAll(histories);
+        taskRepository.completeAll(accepted.stream()
+                .map(HistoryUpdateResult::getTaskId)
+                .collect(Collectors.toList()));
+
+        log.debug("Recorded {} price history observations, {} with changed prices (rate: {})",
+                histories.size(), inserted, rate);
+
+        // Update volatility estimates and let in-memory caches follow
+        for (SteamPriceHistory history : histories) {
+            Double volatility = priceVolatilityRepository.recordAveragePrice(history.getSkinName(),
+                    history.getWear(), history.getAveragePrice(), historyConfig.getVolatilitySmoothing()).orElse(null);
+
+            eventPublisher.publishEvent(new PriceHistoryRecordedEvent(HistoryFreshness.builder()
+                    .skinName(history.getSkinName())
+                    .wear(history.getWear())
+                    .recordedAt(history.getRecordedAt())
+                    .volatility(volatility)
+                    .build()));
+        }
+    }
+
+    /**
+     * @return The rejection reason, or null if the result is valid for the task
+     */
+    private String validate(HistoryUpdateResult result, HistoryUpdateTask task) {
+        if (result.getTaskId() == null) {
+            return "taskId is required";
+        }
+        if (result.getSkinName() == null || result.getWear() == null) {
+            return "skinName and wear are required";
+        }
+        if (result.getAveragePriceInBrl() == null || result.getLastSalePriceInBrl() == null
+                || result.getLowestBuyOrderPriceInUsd() == null) {
+            return "averagePrice, lastSalePrice and lowestBuyOrderPrice are required";
+        }
+        if (task == null) {
+            return "Task not found with ID: " + result.getTaskId();
+        }
+        if (!task.getSkinName().equals(result.getSkinName())) {
+            return String.format("Skin name mismatch. Task has '%s' but received '%s'",
+                    task.getSkinName(), result.getSkinName());
+        }
+        if (!task.getWear().equals(result.getWear())) {
+            return String.format("Wear mismatch. Task has '%s' but received '%s'",
+                    task.getWear(), result.getWear());
+        }
+        if (task.getStatus() != TaskStatus.IN_PROGRESS) {
+            return String.format("Task %d is not in progress (status %s)", task.getId(), task.getStatus());
+        }
+        return null;
+    }
+}
@@ -1,18 +1,32 @@
 package com.thetruemarket.api.application.usecase;
 
+import com.thetruemarket.api.domain.model.HistoryFreshness;
+import com.thetruemarket.api.domain.model.SteamListingPriceSummary;
 import com.thetruemarket.api.domain.model.SteamPriceHistory;
+import com.thetruemarket.api.domain.repository.PriceVolatilityRepository;
+import com.thetruemarket.api.domain.repository.SteamListingPriceRepository;
 import com.thetruemarket.api.domain.repository.SteamPriceHistoryRepository;
+import com.thetruemarket.api.domain.service.HistoryFreshnessCache;
+import com.thetruemarket.api.domain.service.OpenTaskKeyCache;
+import com.thetruemarket.api.domain.valueobject.SteamListingPostponePolicy;
 import com.thetruemarket.api.domain.valueobject.Wear;
 import com.thetruemarket.api.infrastructure.config.HistoryConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
  * Use Case for checking if price history needs to be updated
+ * Answers from memory whenever the answer cannot have changed: a fresh cached history,
+ * an open task for the item (OpenTaskKeyCache) or a recent database check that found the
+ * history missing or expired. Each item is read from the database at most once per
+ * history.update.stale-check-cache-seconds otherwise
+ * An expired history can still be postponed while live Steam listings agree with it
+ * (see SteamListingPostponePolicy); the postponement is cached until it may end
  * Implements the Single Responsibility Principle (SOLID)
  */
 @Service
@@ -20,39 +34,120 @@ import java.util.Optional;
 @Slf4j
 public class CheckPriceHistoryUseCase {
     private final SteamPriceHistoryRepository priceHistoryRepository;
+    private final PriceVolatilityRepository priceVolatilityRepository;
+    private final SteamListingPriceRepository steamListingPriceRepository;
+    private final HistoryFreshnessCache historyFreshnessCache;
+    private final OpenTaskKeyCache openTaskKeyCache;
     private final HistoryConfig historyConfig;
 
     /**
      * Checks if price history needs to be updated for a skin name and wear combination
+     * The expiration depends on the item's observed price volatility (see HistoryExpirationPolicy)
      *
      * @param skinName The skin name
      * @param wear The wear category
      * @return true if history needs update (doesn't exist or is outdated), false otherwise
      */
     public boolean needsUpdate(String skinName, Wear wear) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Fast path: fresh in memory, no database access
+        Optional<HistoryFreshness> cached = historyFreshnessCache.get(skinName, wear);
+        if (cached.isPresent() && !isExpired(cached.get(), now)) {
+            return false;
+        }
+
+        // Missing or expired, and nothing can have changed yet: its task is still open,
+        // or the database was checked moments ago
+        if (openTaskKeyCache.isKnownOpen(skinName, wear) || historyFreshnessCache.isKnownStale(skinName, wear, now)) {
+            return true;
+        }
+
+        // Missing or expired in memory: another replica may have refreshed it, confirm from the database
         Optional<SteamPriceHistory> latestHistory = priceHistoryRepository.findLatestBySkinNameAndWear(skinName, wear);
 
         // If no history exists, needs update
         if (latestHistory.isEmpty()) {
             log.debug("No price history found for {} ({}), needs update", skinName, wear);
+            rememberStale(skinName, wear, now);
             return true;
         }
 
-        // Check if history is outdated
         SteamPriceHistory history = latestHistory.get();
-        LocalDateTime expirationTime = history.getRecordedAt()
-                .plusSeconds(historyConfig.getExpirationSeconds());
+        HistoryFreshness freshness = HistoryFreshness.builder()
+                .skinName(skinName)
+                .wear(wear)
+                .recordedAt(history.getLastConfirmedAt())
+                .volatility(priceVolatilityRepository.findVolatility(skinName, wear).orElse(null))
+                .build();
+        historyFreshnessCache.record(freshness);
 
-        boolean isOutdated = LocalDateTime.now().isAfter(expirationTime);
+        // Check if history is outdated
+        boolean isOutdated = isExpired(freshness, now);
+
+        if (isOutdated) {
+            Optional<LocalDateTime> postponedUntil = postponedBySteamListings(history, now);
+            if (postponedUntil.isPresent()) {
+                log.debug("Price history for {} ({}) is outdated (last updated: {}) but Steam listings still agree, postponing until {}",
+                        skinName, wear, history.getLastConfirmedAt(), postponedUntil.get());
+                rememberPostponed(freshness, postponedUntil.get(), now);
+                return false;
+            }
+        }
 
         if (isOutdated) {
             log.debug("Price history for {} ({}) is outdated (last updated: {}), needs update",
-                    skinName, wear, history.getRecordedAt());
+                    skinName, wear, history.getLastConfirmedAt());
+            rememberStale(skinName, wear, now);
         } else {
             log.debug("Price history for {} ({}) is still valid (last updated: {})",
-                    skinName, wear, history.getRecordedAt());
+                    skinName, wear, history.getLastConfirmedAt());
         }
 
         return isOutdated;
     }
+
+    /**
+     * Checks whether Steam listings postpone an expired history
+     *
+     * @return End of the postponement at the latest, or empty if the history is not postponed
+     */
+    private Optional<LocalDateTime> postponedBySteamListings(SteamPriceHistory history, LocalDateTime now) {
+        SteamListingPostponePolicy policy = historyConfig.toSteamListingPostponePolicy();
+        if (!policy.isEnabled()) {
+            return Optional.empty();
+        }
+
+        SteamListingPriceSummary summary = steamListingPriceRepository
+                .findSummary(history.getSkinName(), history.getWear())
+                .orElse(null);
+        if (!policy.postpones(summary, history.getAveragePrice(), history.getLastConfirmedAt(), now)) {
+            return Optional.empty();
+        }
+        return Optional.of(policy.postponedUntil(summary, history.getLastConfirmedAt()));
+    }
+
+    /**
+     * Caches a postponement as an effective freshness expiring when the postponement may end
+     * (at most one expiration from now), so later listings of the item are answered from memory
+     */
+    private void rememberPostponed(HistoryFreshness freshness, LocalDateTime postponedUntil, LocalDateTime now) {
+        Duration expiration = historyConfig.toExpirationPolicy().expirationFor(freshness.getVolatility());
+        LocalDateTime effectiveRecordedAt = postponedUntil.minus(expiration);
+        historyFreshnessCache.record(HistoryFreshness.builder()
+                .skinName(freshness.getSkinName())
+                .wear(freshness.getWear())
+                .recordedAt(effectiveRecordedAt.isBefore(now) ? effectiveRecordedAt : now)
+                .volatility(freshness.getVolatility())
+                .build());
+    }
+
+    private void rememberStale(String skinName, Wear wear, LocalDateTime now) {
+        historyFreshnessCache.recordStale(skinName, wear, now.plusSeconds(historyConfig.getStaleCheckCacheSeconds()));
+    }
+
+    private boolean isExpired(HistoryFreshness freshness, LocalDateTime now) {
+        Duration expiration = historyConfig.toExpirationPolicy().expirationFor(freshness.getVolatility());
+        return now.isAfter(freshness.getRecordedAt().plus(expiration));
+    }
 }
@@ -0,0 +1,73 @@
+package com.thetruemarket.api.application.usecase;
+
+import com.thetruemarket.api.domain.model.HistoryUpdateTask;
+import com.thetruemarket.api.domain.repository.HistoryUpdateTaskRepository;
+import com.thetruemarket.api.infrastructure.config.HistoryConfig;
+import com.thetruemarket.api.infrastructure.service.HistoryDispatchBudget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Use Case for claiming history update tasks on behalf of a scraper worker
+ * Claimed tasks move to IN_PROGRESS under a lease, so concurrent workers never
+ * receive the same task; expired leases are reclaimed automatically
+ * Tasks are handed out highest priority first, within the per-interval dispatch budget
+ * Implements the Single Responsibility Principle (SOLID)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimHistoryUpdateTasksUseCase {
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final HistoryUpdateTaskRepository taskRepository;
+    private final HistoryConfig historyConfig;
+    private final HistoryDispatchBudget dispatchBudget;
+
+    /**
+     * Claims up to limit tasks for a worker, highest priority first
+     * Returns fewer tasks (possibly none) when the dispatch budget of the interval is exhausted
+     *
+     * @param workerId Identifier of the claiming worker
+     * @param limit    Maximum number of tasks (optional, defaults to 10, capped by history.update.max-claim-size)
+     * @return The claimed tasks in dispatch order
+     * @throws IllegalArgumentException if workerId is blank
+     */
+    public List<HistoryUpdateTask> execute(String workerId, Integer limit) {
+        if (workerId == null || workerId.isBlank()) {
+            throw new IllegalArgumentException("workerId is required");
+        }
+
+        int effectiveLimit = limit != null && limit > 0
+                ? Math.min(limit, historyConfig.getMaxClaimSize())
+                : DEFAULT_LIMIT;
+
+        int granted = dispatchBudget.acquire(effectiveLimit);
+        if (granted == 0) {
+            log.debug("Dispatch budget exhausted, worker {} gets no tasks", workerId);
+            return List.of();
+        }
+
+        List<HistoryUpdateTask> claimedTasks;
+        try {
+            claimedTasks = taskRepository.claim(
+                    workerId,
+                    Duration.ofSeconds(historyConfig.getLeaseSeconds()),
+                    granted
+            );
+        } catch (RuntimeException e) {
+            dispatchBudget.release(granted);
+            throw e;
+        }
+        dispatchBudget.release(granted - claimedTasks.size());
+
+        log.info("Worker {} claimed {} tasks (limit {}, granted {})",
+                workerId, claimedTasks.size(), effectiveLimit, granted);
+
+        return claimedTasks;
+    }
+}
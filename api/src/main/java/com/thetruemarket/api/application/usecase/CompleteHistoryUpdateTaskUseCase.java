@@ -1,20 +1,29 @@
 package com.thetruemarket.api.application.usecase;
 
+import com.thetruemarket.api.domain.event.PriceHistoryRecordedEvent;
+import com.thetruemarket.api.domain.model.HistoryFreshness;
 import com.thetruemarket.api.domain.model.HistoryUpdateTask;
 import com.thetruemarket.api.domain.model.SteamPriceHistory;
 import com.thetruemarket.api.domain.repository.HistoryUpdateTaskRepository;
+import com.thetruemarket.api.domain.repository.PriceVolatilityRepository;
 import com.thetruemarket.api.domain.repository.SteamPriceHistoryRepository;
 import com.thetruemarket.api.domain.service.CurrencyConversionService;
 import com.thetruemarket.api.domain.valueobject.Wear;
+import com.thetruemarket.api.infrastructure.config.HistoryConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Use Case for completing a history update task
- * Saves the price history and marks the task as completed
+ * Records the price history (a new row only if a price changed) and marks the task as completed
  * Converts price from BRL to USD before saving
+ * Feeds the new average price into the item's volatility estimate and publishes a
+ * PriceHistoryRecordedEvent so the in-memory freshness cache follows
  * Implements the Single Responsibility Principle (SOLID)
  */
 @Service
@@ -24,6 +33,9 @@ public class CompleteHistoryUpdateTaskUseCase {
     private final HistoryUpdateTaskRepository taskRepository;
     private final SteamPriceHistoryRepository priceHistoryRepository;
     private final CurrencyConversionService currencyConversionService;
+    private final PriceVolatilityRepository priceVolatilityRepository;
+    private final HistoryConfig historyConfig;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Completes a history update task by saving the price history and marking task as completed
@@ -67,7 +79,7 @@ public class CompleteHistoryUpdateTaskUseCase {
         log.info("Converted prices for {} ({}): avgPrice {} BRL -> {} USD, lastSale {} BRL -> {} USD, lowestBuyOrder {} USD",
                 skinName, wear, averagePriceInBrl, averagePriceInUsd, lastSalePriceInBrl, lastSalePriceInUsd, lowestBuyOrderPriceInUsd);
 
-        // Save price history (all prices in USD)
+        // Record price history (all prices in USD); unchanged prices extend the latest row
         SteamPriceHistory priceHistory = SteamPriceHistory.create(
                 null, // skinId is optional for now
                 skinName,
@@ -76,10 +88,22 @@ public class CompleteHistoryUpdateTaskUseCase {
                 lastSalePriceInUsd,
                 lowestBuyOrderPriceInUsd
         );
-        priceHistoryRepository.save(priceHistory);
+        boolean changed = priceHistoryRepository.recordAll(List.of(priceHistory)) > 0;
+
+        log.info("{} price history for {} ({}) - Avg: {} USD, LastSale: {} USD, LowestBuyOrder: {} USD",
+                changed ? "Saved" : "Confirmed unchanged", skinName, wear,
+                averagePriceInUsd, lastSalePriceInUsd, lowestBuyOrderPriceInUsd);
+
+        // Update volatility estimate (drives how long this history stays valid)
+        Double volatility = priceVolatilityRepository.recordAveragePrice(skinName, wear, averagePriceInUsd,
+                historyConfig.getVolatilitySmoothing()).orElse(null);
 
-        log.info("Saved price history for {} ({}) - Avg: {} USD, LastSale: {} USD, LowestBuyOrder: {} USD",
-                skinName, wear, averagePriceInUsd, lastSalePriceInUsd, lowestBuyOrderPriceInUsd);
+        eventPublisher.publishEvent(new PriceHistoryRecordedEvent(HistoryFreshness.builder()
+                .skinName(skinName)
+                .wear(wear)
+                .recordedAt(priceHistory.getRecordedAt())
+                .volatility(volatility)
+                .build()));
 
         // Mark task as completed
         task.complete();
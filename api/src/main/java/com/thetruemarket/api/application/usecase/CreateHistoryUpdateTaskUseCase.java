@@ -1,14 +1,23 @@
 package com.thetruemarket.api.application.usecase;
 
+import com.thetruemarket.api.domain.event.HistoryUpdateTasksCreatedEvent;
 import com.thetruemarket.api.domain.model.HistoryUpdateTask;
+import com.thetruemarket.api.domain.model.SteamPriceHistory;
+import com.thetruemarket.api.domain.model.TaskPriorityInput;
 import com.thetruemarket.api.domain.repository.HistoryUpdateTaskRepository;
-import com.thetruemarket.api.domain.valueobject.TaskStatus;
+import com.thetruemarket.api.domain.repository.SteamPriceHistoryRepository;
+import com.thetruemarket.api.domain.service.OpenTaskKeyCache;
+import com.thetruemarket.api.domain.service.TaskPriorityService;
 import com.thetruemarket.api.domain.valueobject.Wear;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 /**
  * Use Case for creating a history update task
  * Implements the Single Responsibility Principle (SOLID)
@@ -18,33 +27,59 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class CreateHistoryUpdateTaskUseCase {
     private final HistoryUpdateTaskRepository taskRepository;
+    private final SteamPriceHistoryRepository priceHistoryRepository;
+    private final TaskPriorityService taskPriorityService;
+    private final OpenTaskKeyCache openTaskKeyCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Creates a new history update task if one doesn't already exist in WAITING status
+     * Creates a new history update task if no open (WAITING or IN_PROGRESS) task already exists
+     *
+     * Deduplication is a single insert-if-absent statement backed by a unique partial index,
+     * so concurrent consumers cannot create duplicates; items recently seen with an open
+     * task are skipped from memory without touching the database
+     *
+     * The task is scored from the listing that triggered it; RecomputeTaskPrioritiesUseCase
+     * later refines the score with every listing of the same skin name and wear
      *
      * @param skinName The skin name
      * @param wear The wear category
-     * @return The created task, or null if a waiting task already exists
+     * @param listingPriceUsd Price of the listing that triggered the task in USD cents (nullable)
+     * @return The created task, or null if an open task already exists
      */
     @Transactional
-    public HistoryUpdateTask execute(String skinName, Wear wear) {
-        // Check if a waiting task already exists for this skin + wear combination
-        boolean alreadyExists = taskRepository.existsBySkinNameAndWearAndStatus(
-                skinName, wear, TaskStatus.WAITING
-        );
-
-        if (alreadyExists) {
-            log.debug("A waiting task already exists for {} ({}), skipping creation", skinName, wear);
+    public HistoryUpdateTask execute(String skinName, Wear wear, Long listingPriceUsd) {
+        if (openTaskKeyCache.isKnownOpen(skinName, wear)) {
+            log.debug("An open task is known for {} ({}), skipping creation", skinName, wear);
+            return null;
+        }
+
+        // Score the task from the triggering listing and the latest known history
+        SteamPriceHistory latestHistory = priceHistoryRepository.findLatestBySkinNameAndWear(skinName, wear)
+                .orElse(null);
+        double priority = taskPriorityService.calculatePriority(TaskPriorityInput.builder()
+                        .bestListingPriceUsd(listingPriceUsd)
+                        .listingCount(1)
+                        .lastSteamAveragePriceUsd(latestHistory != null ? latestHistory.getAveragePrice() : null)
+                        .lastRecordedAt(latestHistory != null ? latestHistory.getLastConfirmedAt() : null)
+                        .build(),
+                LocalDateTime.now());
+
+        // Create new waiting task unless another one is already open
+        Optional<HistoryUpdateTask> savedTask = taskRepository.createWaitingIfAbsent(
+                HistoryUpdateTask.createWaiting(skinName, wear, priority));
+        openTaskKeyCache.markOpen(skinName, wear);
+
+        if (savedTask.isEmpty()) {
+            log.debug("An open task already exists for {} ({}), skipping creation", skinName, wear);
             return null;
         }
 
-        // Create new waiting task
-        HistoryUpdateTask task = HistoryUpdateTask.createWaiting(skinName, wear);
-        HistoryUpdateTask savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(new HistoryUpdateTasksCreatedEvent(1));
 
-        log.info("Created history update task for {} ({}) - Task ID: {}",
-                skinName, wear, savedTask.getId());
+        log.info("Created history update task for {} ({}) - Task ID: {}, priority: {}",
+                skinName, wear, savedTask.get().getId(), priority);
 
-        return savedTask;
+        return savedTask.get();
     }
 }
@@ -0,0 +1,51 @@
+package com.thetruemarket.api.application.usecase;
+
+import com.thetruemarket.api.domain.event.HistoryUpdateTasksCreatedEvent;
+import com.thetruemarket.api.domain.model.HistoryUpdateTask;
+import com.thetruemarket.api.domain.repository.HistoryUpdateTaskRepository;
+import com.thetruemarket.api.domain.valueobject.HistoryExpirationPolicy;
+import com.thetruemarket.api.infrastructure.config.HistoryConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use Case for creating history update tasks for every AVAILABLE skin with missing or expired history
+ * Runs as a single set-based scan instead of checking each (name, wear) combination
+ * Implements the Single Responsibility Principle (SOLID)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CreateStaleHistoryUpdateTasksUseCase {
+    private final HistoryUpdateTaskRepository taskRepository;
+    private final HistoryConfig historyConfig;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates a WAITING task for each distinct (skin name, wear) among AVAILABLE skins
+     * whose latest price history is missing or older than its volatility-adjusted expiration,
+     * skipping combinations that already have an open task or whose Steam listings postpone the scrape
+     *
+     * @return The created tasks
+     */
+    public List<HistoryUpdateTask> execute() {
+        HistoryExpirationPolicy expirationPolicy = historyConfig.toExpirationPolicy();
+
+        List<HistoryUpdateTask> createdTasks = taskRepository.createWaitingForStaleAvailableSkins(expirationPolicy,
+                historyConfig.toSteamListingPostponePolicy());
+
+        if (!createdTasks.isEmpty()) {
+            eventPublisher.publishEvent(new HistoryUpdateTasksCreatedEvent(createdTasks.size()));
+        }
+
+        log.debug("Created {} history update tasks (expiration {}s, bounds {}s - {}s)",
+                createdTasks.size(), expirationPolicy.getBaseSeconds(),
+                expirationPolicy.getMinSeconds(), expirationPolicy.getMaxSeconds());
+
+        return createdTasks;
+    }
+}
@@ -0,0 +1,56 @@
+package com.thetruemarket.api.application.usecase;
+
+import com.thetruemarket.api.domain.model.Skin;
+import com.thetruemarket.api.domain.repository.SkinRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Use Case for finding AVAILABLE listings that carry a given sticker
+ * Answered by the GIN index on skins.stickers (sticker craft hunting)
+ * Implements the Single Responsibility Principle (SOLID)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FindSkinsByStickerUseCase {
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 500;
+
+    private final SkinRepository skinRepository;
+
+    /**
+     * Finds AVAILABLE skins carrying a sticker, cheapest first
+     *
+     * @param stickerName Exact sticker name (optional)
+     * @param classId Exact sticker class ID (optional)
+     * @param limit Maximum number of skins (optional, defaults to 50, capped at 500)
+     * @return Matching AVAILABLE skins ordered by price
+     * @throws IllegalArgumentException if neither a sticker name nor a class ID is given
+     */
+    @Transactional(readOnly = true)
+    public List<Skin> execute(String stickerName, String classId, Integer limit) {
+        String name = blankToNull(stickerName);
+        String id = blankToNull(classId);
+        if (name == null && id == null) {
+            throw new IllegalArgumentException("A sticker name or class ID is required");
+        }
+
+        int effectiveLimit = limit != null && limit > 0 ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT;
+
+        List<Skin> skins = skinRepository.findAvailableBySticker(name, id, effectiveLimit);
+
+        log.debug("Sticker search name='{}' classId='{}' (limit {}) matched {} skins",
+                name, id, effectiveLimit, skins.size());
+
+        return skins;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -6,6 +6,7 @@ import com.thetruemarket.api.domain.valueobject.TaskStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -24,6 +25,7 @@ public class GetPendingTasksUseCase {
      *
      * @return List of waiting tasks in FIFO order
      */
+    @Transactional(readOnly = true)
     public List<HistoryUpdateTask> execute() {
         List<HistoryUpdateTask> waitingTasks = taskRepository.findByStatusOrderByCreatedAtAsc(TaskStatus.WAITING);
 
@@ -0,0 +1,76 @@
+package com.thetruemarket.api.application.usecase;
+
+import com.thetruemarket.api.domain.model.PriceHistoryPoint;
+import com.thetruemarket.api.domain.repository.PriceHistorySeriesRepository;
+import com.thetruemarket.api.domain.valueobject.HistoryBucket;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * Use Case for reading a bucketed Steam price history series (1h, 1d or 1w)
+ * Answers from the hourly/daily rollups, so the current hour appears once
+ * MaintainPriceHistoryJob has rolled it up
+ * Implements the Single Responsibility Principle (SOLID)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetPriceHistorySeriesUseCase {
+    private static final long MAX_BUCKETS = 5000;
+
+    private final PriceHistorySeriesRepository seriesRepository;
+
+    /**
+     * Reads the series of a skin name and wear
+     *
+     * @param skinName The skin name
+     * @param wear     The wear category
+     * @param bucket   The bucket size
+     * @param from     Range start (optional, defaults to the bucket's default range before {@code to});
+     *                 aligned down to the start of its bucket
+     * @param to       Range end, exclusive (optional, defaults to now)
+     * @return Points in ascending bucket order, only buckets with data
+     * @throws IllegalArgumentException if the range is empty or spans more than 5000 buckets
+     */
+    @Transactional(readOnly = true)
+    public List<PriceHistoryPoint> execute(String skinName, Wear wear, HistoryBucket bucket,
+                                           LocalDateTime from, LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = alignToBucket(from != null ? from : end.minus(bucket.getDefaultRange()), bucket);
+
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+
+        long buckets = ChronoUnit.SECONDS.between(start, end) / bucket.getLength().getSeconds();
+        if (buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException(String.format(
+                    "Range spans %d buckets of %s, the maximum is %d", buckets, bucket.getCode(), MAX_BUCKETS));
+        }
+
+        List<PriceHistoryPoint> points = seriesRepository.findSeries(skinName, wear, bucket, start, end);
+
+        log.debug("Price history series for {} ({}) by {} in [{} - {}): {} points",
+                skinName, wear, bucket.getCode(), start, end, points.size());
+
+        return points;
+    }
+
+    private static LocalDateTime alignToBucket(LocalDateTime time, HistoryBucket bucket) {
+        return switch (bucket) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+            // Same as PostgreSQL date_trunc('week'): ISO weeks start on Monday
+            case WEEK -> time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.thetruemarket.api.application.usecase;
 import com.thetruemarket.api.application.dto.ProfitAnalysis;
 import com.thetruemarket.api.domain.model.ProfitResult;
 import com.thetruemarket.api.domain.model.Skin;
+import com.thetruemarket.api.domain.model.SkinFilter;
 import com.thetruemarket.api.domain.model.SteamPriceHistory;
 import com.thetruemarket.api.domain.repository.SkinRepository;
 import com.thetruemarket.api.domain.repository.SteamPriceHistoryRepository;
@@ -11,6 +12,7 @@ import com.thetruemarket.api.infrastructure.persistence.repository.SkinImageJpaR
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Comparator;
 import java.util.List;
@@ -33,6 +35,7 @@ public class GetProfitableSkinsUseCase {
     /**
      * Executes the use case to retrieve profitable skins
      *
+     * @param filter     Listing filters pushed down to the database (optional)
      * @param minProfit  Minimum profit percentage to filter (optional)
      * @param maxResults Maximum number of results to return (optional)
      * @param sortBy     Field to sort by: "profit", "discount", "gain" (optional,
@@ -40,13 +43,15 @@ public class GetProfitableSkinsUseCase {
      * @param order      Sort order: "asc" or "desc" (optional, defaults to "desc")
      * @return List of ProfitAnalysis DTOs
      */
-    public List<ProfitAnalysis> execute(Double minProfit, Integer maxResults, String sortBy, String order) {
+    @Transactional(readOnly = true)
+    public List<ProfitAnalysis> execute(SkinFilter filter, Double minProfit, Integer maxResults, String sortBy,
+            String order) {
         log.info("Executing GetProfitableSkinsUseCase with minProfit={}, maxResults={}, sortBy={}, order={}",
                 minProfit, maxResults, sortBy, order);
 
-        // Step 1: Fetch all skins
-        List<Skin> allSkins = skinRepository.findAll();
-        log.debug("Found {} total skins", allSkins.size());
+        // Step 1: Fetch only the skins matching the requested filters
+        List<Skin> allSkins = filter != null ? skinRepository.findByFilter(filter) : skinRepository.findAll();
+        log.debug("Found {} skins matching filters", allSkins.size());
 
         // Step 2: Filter skins with price and build profit analysis
         List<ProfitAnalysis> profitAnalyses = allSkins.stream()
@@ -0,0 +1,141 @@
+package com.thetruemarket.api.application.usecase;
+
+import com.thetruemarket.api.domain.repository.JobStateRepository;
+import com.thetruemarket.api.domain.repository.PriceHistoryMaintenanceRepository;
+import com.thetruemarket.api.infrastructure.config.HistoryRetentionConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * Use Case for the storage lifecycle of Steam price history
+ *
+ * Each run:
+ * 1. Creates the upcoming monthly raw partitions
+ * 2. Rolls raw history up into hourly buckets from the saved watermark, then the touched days
+ *    into daily buckets (the watermark is persisted as the cursor of the calling job)
+ * 3. Drops raw partitions past the raw retention, once they are fully rolled up; rows still
+ *    current (unchanged prices confirmed after the partition ended) are carried forward first
+ * 4. Deletes hourly and daily rollups past their own retention
+ * Implements the Single Responsibility Principle (SOLID)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MaintainPriceHistoryUseCase {
+    /**
+     * The last rolled-up hour is recomputed on every run to absorb late rows
+     * (workers report recorded_at, which can lag behind the insert)
+     */
+    private static final int LATE_ARRIVAL_HOURS = 1;
+
+    private final PriceHistoryMaintenanceRepository maintenanceRepository;
+    private final JobStateRepository jobStateRepository;
+    private final HistoryRetentionConfig retentionConfig;
+
+    /**
+     * Runs one maintenance pass
+     *
+     * @param watermarkKey Job name under which the rollup watermark is persisted
+     * @return Number of hourly buckets written plus partitions and rollup rows dropped
+     */
+    public int execute(String watermarkKey) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean partitioned = retentionConfig.isPartitioningEnabled() && maintenanceRepository.isPartitioned();
+
+        if (partitioned) {
+            YearMonth current = YearMonth.from(now);
+            maintenanceRepository.ensureMonthlyPartitions(current, current.plusMonths(retentionConfig.getPartitionsAhead()));
+        }
+
+        Optional<LocalDateTime> savedWatermark = jobStateRepository.findCursor(watermarkKey).map(LocalDateTime::parse);
+        Optional<LocalDateTime> start = savedWatermark.isPresent()
+                ? savedWatermark.map(watermark -> watermark.minusHours(LATE_ARRIVAL_HOURS))
+                : maintenanceRepository.findOldestRecordedAt().map(oldest -> oldest.truncatedTo(ChronoUnit.HOURS));
+
+        int processed = 0;
+        LocalDateTime watermark = savedWatermark.orElse(null);
+
+        if (start.isPresent()) {
+            LocalDateTime from = start.get();
+            LocalDateTime to = min(from.plusHours(retentionConfig.getMaxRollupHoursPerRun()), now.truncatedTo(ChronoUnit.HOURS));
+
+            if (to.isAfter(from)) {
+                int hourly = maintenanceRepository.rollUpHourly(from, to);
+                int daily = maintenanceRepository.rollUpDaily(from.toLocalDate(), to.toLocalDate().plusDays(1));
+                jobStateRepository.saveCursor(watermarkKey, to.toString());
+                watermark = to;
+                processed += hourly;
+
+                log.debug("Rolled up price history [{} - {}): {} hourly and {} daily buckets", from, to, hourly, daily);
+            }
+        }
+
+        if (partitioned && watermark != null) {
+            processed += dropExpiredPartitions(now, watermark);
+        }
+
+        processed += deleteExpiredRollups(now);
+
+        return processed;
+    }
+
+    /**
+     * Drops the raw partitions that ended before the retention cutoff and before the watermark
+     */
+    private int dropExpiredPartitions(LocalDateTime now, LocalDateTime watermark) {
+        if (retentionConfig.getRawRetentionMonths() <= 0) {
+            return 0;
+        }
+
+        YearMonth cutoff = YearMonth.from(now).minusMonths(retentionConfig.getRawRetentionMonths());
+        int dropped = 0;
+
+        for (YearMonth month : maintenanceRepository.findRawPartitions()) {
+            LocalDateTime partitionEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+            if (!month.isBefore(cutoff) || partitionEnd.isAfter(watermark)) {
+                continue;
+            }
+
+            int carried = maintenanceRepository.carryForwardCurrentRows(month);
+            maintenanceRepository.dropRawPartition(month);
+            log.debug("Carried {} current price history rows forward out of partition {}", carried, month);
+            dropped++;
+        }
+
+        if (dropped > 0) {
+            log.info("Dropped {} raw price history partitions older than {}", dropped, cutoff);
+        }
+
+        return dropped;
+    }
+
+    private int deleteExpiredRollups(LocalDateTime now) {
+        int deleted = 0;
+
+        if (retentionConfig.getHourlyRetentionDays() > 0) {
+            deleted += maintenanceRepository.deleteHourlyBefore(
+                    now.truncatedTo(ChronoUnit.HOURS).minusDays(retentionConfig.getHourlyRetentionDays()));
+        }
+
+        if (retentionConfig.getDailyRetentionDays() > 0) {
+            deleted += maintenanceRepository.deleteDailyBefore(
+                    now.toLocalDate().minusDays(retentionConfig.getDailyRetentionDays()));
+        }
+
+        if (deleted > 0) {
+            log.info("Deleted {} price history rollups past retention", deleted);
+        }
+
+        return deleted;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -1,13 +1,12 @@
 package com.thetruemarket.api.application.usecase;
 
-import com.thetruemarket.api.domain.model.Skin;
+import com.thetruemarket.api.domain.event.SkinsMarkedAsSoldEvent;
 import com.thetruemarket.api.domain.repository.SkinRepository;
-import com.thetruemarket.api.domain.valueobject.SkinStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,6 +17,10 @@ import java.util.List;
  * - Finds skins that are AVAILABLE but haven't been seen for configured duration
  * - Marks them as SOLD (not deleted, preserving history)
  *
+ * The sweep is set-based and chunked: each chunk is one UPDATE ... RETURNING id
+ * committed on its own, so a large backlog (e.g. after a bot outage) never holds
+ * a long transaction or loads the skins into memory.
+ *
  * Implements the Single Responsibility Principle (SOLID)
  */
 @Service
@@ -25,66 +28,43 @@ import java.util.List;
 @Slf4j
 public class MarkStaleSkinAsSoldUseCase {
     private final SkinRepository skinRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${skin.cleanup.stale-hours:2}")
     private int staleHours;
 
+    @Value("${skin.cleanup.batch-size:1000}")
+    private int batchSize;
+
     /**
      * Finds and marks stale skins as SOLD
      * A skin is considered stale if it's AVAILABLE but hasn't been seen for configured hours
+     * Publishes a SkinsMarkedAsSoldEvent with the affected IDs after each chunk
      *
      * @return Number of skins marked as sold
      */
-    @Transactional
     public int execute() {
         LocalDateTime cutoffDate = LocalDateTime.now().minusHours(staleHours);
 
         log.info("Starting stale skin cleanup - marking skins not seen since {} as SOLD", cutoffDate);
 
-        // Find all AVAILABLE skins that haven't been seen since cutoff
-        List<Skin> staleSkins = skinRepository.findByStatusAndLastSeenAtBefore(
-                SkinStatus.AVAILABLE,
-                cutoffDate
-        );
-
-        if (staleSkins.isEmpty()) {
-            log.info("No stale skins found");
-            return 0;
-        }
-
-        log.info("Found {} stale skins to mark as SOLD", staleSkins.size());
-
-        // Mark each as SOLD and save
         int markedCount = 0;
-        for (Skin skin : staleSkins) {
-            Skin updatedSkin = Skin.builder()
-                    .id(skin.getId())
-                    .name(skin.getName())
-                    .assetId(skin.getAssetId())
-                    .floatValue(skin.getFloatValue())
-                    .wear(skin.getWear())
-                    .paintSeed(skin.getPaintSeed())
-                    .paintIndex(skin.getPaintIndex())
-                    .stickers(skin.getStickers())
-                    .stickerCount(skin.getStickerCount())
-                    .price(skin.getPrice())
-                    .currency(skin.getCurrency())
-                    .marketSource(skin.getMarketSource())
-                    .link(skin.getLink())
-                    .createdAt(skin.getCreatedAt())
-                    .updatedAt(LocalDateTime.now())
-                    .lastSeenAt(skin.getLastSeenAt())
-                    .status(SkinStatus.SOLD) // Mark as SOLD
-                    .build();
+        List<String> markedIds;
+        do {
+            markedIds = skinRepository.markStaleAsSold(cutoffDate, batchSize);
+            if (!markedIds.isEmpty()) {
+                markedCount += markedIds.size();
+                eventPublisher.publishEvent(new SkinsMarkedAsSoldEvent(markedIds));
+                log.debug("Marked chunk of {} skins as SOLD", markedIds.size());
+            }
+        } while (markedIds.size() >= batchSize);
 
-            skinRepository.save(updatedSkin);
-            markedCount++;
-
-            log.debug("Marked skin as SOLD: {} (ID: {}, Last seen: {})",
-                    skin.getName(), skin.getId(), skin.getLastSeenAt());
+        if (markedCount == 0) {
+            log.info("No stale skins found");
+        } else {
+            log.info("Successfully marked {} skins as SOLD", markedCount);
         }
 
-        log.info("Successfully marked {} skins as SOLD", markedCount);
         return markedCount;
     }
 }
@@ -1,6 +1,7 @@
 package com.thetruemarket.api.application.usecase;
 
 import com.thetruemarket.api.domain.exception.ExchangeRateUnavailableException;
+import com.thetruemarket.api.domain.model.MarketSource;
 import com.thetruemarket.api.domain.model.Skin;
 import com.thetruemarket.api.domain.model.SkinMarketData;
 import com.thetruemarket.api.domain.service.CurrencyConversionService;
@@ -13,7 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Main orchestrator Use Case for processing skin market data from RabbitMQ
  * Coordinates the workflow: resolve image -> convert currency -> save skin ->
- * check history -> create task if needed
+ * track Steam listing price (Steam only) -> check history -> create task if needed
  * Implements the Single Responsibility Principle (SOLID)
  */
 @Service
@@ -26,20 +27,23 @@ public class ProcessSkinMarketDataUseCase {
     private final CurrencyConversionService currencyConversionService;
     private final SaveFailedConversionUseCase saveFailedConversionUseCase;
     private final ResolveImageUrlUseCase resolveImageUrlUseCase;
+    private final TrackSteamListingPriceUseCase trackSteamListingPriceUseCase;
 
     /**
      * Processes skin market data received from RabbitMQ
      * 1. Resolves image URL from cache or various sources
      * 2. Converts price to USD if necessary
      * 3. Saves the skin if it doesn't exist
-     * 4. Checks if price history needs update
-     * 5. Creates a history update task if necessary
+     * 4. Folds the price into the Steam listing summary (Steam listings only)
+     * 5. Checks if price history needs update
+     * 6. Creates a history update task if necessary
      *
      * @param skinMarketData    The skin market data from RabbitMQ message
+     * @param source            The market the message was routed from
      * @param skinMarketDataDTO The original DTO with image resolution fields
      */
     @Transactional
-    public void execute(SkinMarketData skinMarketData, SkinMarketDataDTO skinMarketDataDTO) {
+    public void execute(SkinMarketData skinMarketData, MarketSource source, SkinMarketDataDTO skinMarketDataDTO) {
         log.info("Processing skin market data: {} (ID: {}) - Price: {} {}",
                 skinMarketData.getName(), skinMarketData.getId(),
                 skinMarketData.getPrice(), skinMarketData.getCurrency());
@@ -98,16 +102,23 @@ public class ProcessSkinMarketDataUseCase {
 
             saveSkinUseCase.execute(skin);
 
-            // Step 3: Check if price history needs update
+            // Step 3: Steam listings are a live view of the Steam market, which may
+            // postpone the scrape of this item's history
+            if (source == MarketSource.STEAM) {
+                trackSteamListingPriceUseCase.execute(skin.getName(), skin.getWear(), priceInUsd);
+            }
+
+            // Step 4: Check if price history needs update
             boolean needsUpdate = checkPriceHistoryUseCase.needsUpdate(
                     skin.getName(),
                     skin.getWear());
 
-            // Step 4: Create history update task if needed
+            // Step 5: Create history update task if needed
             if (needsUpdate) {
                 createHistoryUpdateTaskUseCase.execute(
                         skin.getName(),
-                        skin.getWear());
+                        skin.getWear(),
+                        priceInUsd);
             }
 
             log.info("Successfully processed skin: {} ({}) - Final price: {} USD",
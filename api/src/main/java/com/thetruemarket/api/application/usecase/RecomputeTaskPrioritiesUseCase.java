@@ -0,0 +1,48 @@
+package com.thetruemarket.api.application.usecase;
+
+import com.thetruemarket.api.domain.model.TaskPriorityInput;
+import com.thetruemarket.api.domain.repository.HistoryUpdateTaskRepository;
+import com.thetruemarket.api.domain.service.TaskPriorityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use Case for rescoring every open history update task
+ * Gathers listing discount, listing count and history staleness for all open tasks in one
+ * query, scores them with TaskPriorityService and writes the scores back in one batch
+ * Implements the Single Responsibility Principle (SOLID)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecomputeTaskPrioritiesUseCase {
+    private final HistoryUpdateTaskRepository taskRepository;
+    private final TaskPriorityService taskPriorityService;
+
+    /**
+     * Recomputes the priority of every open (WAITING or IN_PROGRESS) task
+     *
+     * @return Number of tasks rescored
+     */
+    public int execute() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskPriorityInput> inputs = taskRepository.findOpenTaskPriorityInputs();
+
+        Map<Long, Double> prioritiesByTaskId = new HashMap<>(inputs.size() * 2);
+        for (TaskPriorityInput input : inputs) {
+            prioritiesByTaskId.put(input.getTaskId(), taskPriorityService.calculatePriority(input, now));
+        }
+
+        taskRepository.updatePriorities(prioritiesByTaskId);
+
+        log.debug("Recomputed priority of {} open history update tasks", prioritiesByTaskId.size());
+
+        return prioritiesByTaskId.size();
+    }
+}
@@ -1,6 +1,7 @@
 package com.thetruemarket.api.application.usecase;
 
 import com.thetruemarket.api.domain.exception.SkinImageResolutionException;
+import com.thetruemarket.api.domain.service.SkinNameIndex;
 import com.thetruemarket.api.infrastructure.external.SteamApiService;
 import com.thetruemarket.api.infrastructure.messaging.dto.SkinMarketDataDTO;
 import com.thetruemarket.api.infrastructure.persistence.entity.SkinImageEntity;
@@ -31,6 +32,7 @@ public class ResolveImageUrlUseCase {
 
   private final SkinImageJpaRepository skinImageRepository;
   private final SteamApiService steamApiService;
+  private final SkinNameIndex skinNameIndex;
 
   @Value("${steam.api.image-base-url}")
   private String imageBaseUrl;
@@ -126,6 +128,7 @@ public class ResolveImageUrlUseCase {
             .imageUrl(imageUrl)
             .build();
         skinImageRepository.saveAndFlush(entity); // Force immediate flush to DB
+        skinNameIndex.registerName(skinName, imageUrl);
         log.info("Saved image URL to cache for skin: {} -> {}", skinName, imageUrl);
       }
     } catch (Exception e) {
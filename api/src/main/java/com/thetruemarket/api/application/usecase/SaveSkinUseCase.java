@@ -1,9 +1,11 @@
 package com.thetruemarket.api.application.usecase;
 
+import com.thetruemarket.api.domain.event.SkinSavedEvent;
 import com.thetruemarket.api.domain.model.Skin;
 import com.thetruemarket.api.domain.repository.SkinRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,11 +18,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class SaveSkinUseCase {
     private final SkinRepository skinRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Saves or updates a skin
      * Always performs save operation to update heartbeat timestamp (lastSeenAt)
      * This enables the heartbeat-based cleanup strategy for sold skins
+     * Publishes a SkinSavedEvent so in-memory read models stay in sync
      *
      * @param skin The skin to save or update
      * @return The saved/updated skin
@@ -31,6 +35,7 @@ public class SaveSkinUseCase {
 
         // Always save (insert or update) to refresh heartbeat timestamp
         Skin savedSkin = skinRepository.save(skin);
+        eventPublisher.publishEvent(new SkinSavedEvent(savedSkin));
 
         if (isExisting) {
             log.debug("Updated existing skin heartbeat: {} (ID: {})",
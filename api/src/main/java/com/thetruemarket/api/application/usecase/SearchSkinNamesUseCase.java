@@ -0,0 +1,41 @@
+package com.thetruemarket.api.application.usecase;
+
+import com.thetruemarket.api.domain.model.SkinNameMatch;
+import com.thetruemarket.api.domain.service.SkinNameIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use Case for searching skin names (autocomplete)
+ * Answers from the in-memory SkinNameIndex, never from the database
+ * Implements the Single Responsibility Principle (SOLID)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchSkinNamesUseCase {
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final SkinNameIndex skinNameIndex;
+
+    /**
+     * Searches skin names by prefix or substring
+     *
+     * @param query Case-insensitive prefix or substring (e.g., "redline")
+     * @param limit Maximum number of names (optional, defaults to 10, capped at 50)
+     * @return Matching names with listing counts and best current listing
+     */
+    public List<SkinNameMatch> execute(String query, Integer limit) {
+        int effectiveLimit = limit != null && limit > 0 ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT;
+
+        List<SkinNameMatch> matches = skinNameIndex.search(query, effectiveLimit);
+
+        log.debug("Skin name search '{}' (limit {}) matched {} names", query, effectiveLimit, matches.size());
+
+        return matches;
+    }
+}
@@ -0,0 +1,46 @@
+package com.thetruemarket.api.application.usecase;
+
+import com.thetruemarket.api.domain.model.SteamListingPriceSummary;
+import com.thetruemarket.api.domain.repository.SteamListingPriceRepository;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import com.thetruemarket.api.infrastructure.config.HistoryConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Use Case for folding listings received on skin.market.steam into the rolling per-item
+ * Steam listing price summary
+ * The summary lets CheckPriceHistoryUseCase and the stale-task scan postpone scrapes of
+ * items whose Steam market is observed live (see SteamListingPostponePolicy)
+ * Implements the Single Responsibility Principle (SOLID)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrackSteamListingPriceUseCase {
+    private final SteamListingPriceRepository steamListingPriceRepository;
+    private final HistoryConfig historyConfig;
+
+    /**
+     * Records the price of a Steam listing
+     *
+     * @param skinName The skin name
+     * @param wear     The wear category
+     * @param priceUsd The listing price in USD (cents)
+     */
+    public void execute(String skinName, Wear wear, Long priceUsd) {
+        if (priceUsd == null || priceUsd <= 0) {
+            return;
+        }
+
+        SteamListingPriceSummary summary = steamListingPriceRepository.recordListingPrice(skinName, wear, priceUsd,
+                historyConfig.getSteamListingSmoothing(),
+                Duration.ofSeconds(historyConfig.getSteamListingWindowSeconds()));
+
+        log.debug("Steam listing price of {} ({}): {} USD, EWMA {} over {} listings",
+                skinName, wear, priceUsd, summary.getEwmaPrice(), summary.getSampleCount());
+    }
+}
@@ -0,0 +1,17 @@
+package com.thetruemarket.api.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Domain event published after new WAITING history update tasks have been created
+ * Lets long-polling workers be woken up without polling the database
+ */
+@Getter
+@AllArgsConstructor
+public class HistoryUpdateTasksCreatedEvent {
+    /**
+     * Number of tasks created
+     */
+    private final int count;
+}
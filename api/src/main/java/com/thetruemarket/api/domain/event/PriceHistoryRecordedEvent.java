@@ -0,0 +1,18 @@
+package com.thetruemarket.api.domain.event;
+
+import com.thetruemarket.api.domain.model.HistoryFreshness;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Domain event published after a new Steam price history record has been saved
+ * Lets in-memory freshness caches follow task completions without querying the database
+ */
+@Getter
+@AllArgsConstructor
+public class PriceHistoryRecordedEvent {
+    /**
+     * Recording time and updated volatility of the item
+     */
+    private final HistoryFreshness freshness;
+}
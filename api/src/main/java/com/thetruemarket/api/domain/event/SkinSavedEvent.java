@@ -0,0 +1,18 @@
+package com.thetruemarket.api.domain.event;
+
+import com.thetruemarket.api.domain.model.Skin;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Domain event published after a skin listing has been inserted or refreshed
+ * Lets in-memory read models follow the ingest path without querying the database
+ */
+@Getter
+@AllArgsConstructor
+public class SkinSavedEvent {
+    /**
+     * The skin as persisted
+     */
+    private final Skin skin;
+}
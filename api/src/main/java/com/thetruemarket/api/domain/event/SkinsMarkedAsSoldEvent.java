@@ -0,0 +1,16 @@
+package com.thetruemarket.api.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Domain event published after a batch of AVAILABLE skins has been marked as SOLD
+ * Carries only the affected IDs so listeners can drop them from their read models
+ */
+@Getter
+@AllArgsConstructor
+public class SkinsMarkedAsSoldEvent {
+    private final List<String> skinIds;
+}
@@ -0,0 +1,35 @@
+package com.thetruemarket.api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of completing one task within a bulk completion
+ * Framework-agnostic pure domain model
+ */
+@Getter
+@AllArgsConstructor
+public class HistoryCompletionOutcome {
+    /**
+     * ID of the task the result was reported for
+     */
+    private final Long taskId;
+
+    /**
+     * Whether the history was saved and the task completed
+     */
+    private final boolean completed;
+
+    /**
+     * Reason the result was rejected (null if completed)
+     */
+    private final String error;
+
+    public static HistoryCompletionOutcome completed(Long taskId) {
+        return new HistoryCompletionOutcome(taskId, true, null);
+    }
+
+    public static HistoryCompletionOutcome rejected(Long taskId, String error) {
+        return new HistoryCompletionOutcome(taskId, false, error);
+    }
+}
@@ -0,0 +1,39 @@
+package com.thetruemarket.api.domain.model;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * What is needed to decide whether the price history of a skin name and wear has expired
+ * Framework-agnostic pure domain model
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryFreshness {
+    /**
+     * Skin name
+     */
+    private String skinName;
+
+    /**
+     * Wear category
+     */
+    private Wear wear;
+
+    /**
+     * When prices were last observed (latest row's last confirmation)
+     */
+    private LocalDateTime recordedAt;
+
+    /**
+     * EWMA of the relative price change (null if not yet known)
+     */
+    private Double volatility;
+}
@@ -0,0 +1,47 @@
+package com.thetruemarket.api.domain.model;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Steam prices scraped for one history update task, as reported by a worker
+ * Framework-agnostic pure domain model
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryUpdateResult {
+    /**
+     * ID of the completed task
+     */
+    private Long taskId;
+
+    /**
+     * Skin name; must match the task
+     */
+    private String skinName;
+
+    /**
+     * Wear category; must match the task
+     */
+    private Wear wear;
+
+    /**
+     * Average price from recent Steam sales in BRL (cents)
+     */
+    private Long averagePriceInBrl;
+
+    /**
+     * Price of the last sale in BRL (cents)
+     */
+    private Long lastSalePriceInBrl;
+
+    /**
+     * Price of the lowest buy order in USD (cents)
+     */
+    private Long lowestBuyOrderPriceInUsd;
+}
@@ -48,16 +48,39 @@ public class HistoryUpdateTask {
      */
     private LocalDateTime finishedAt;
 
+    /**
+     * Worker that claimed the task (null if never claimed)
+     */
+    private String claimedBy;
+
+    /**
+     * When the current claim expires; after it the task can be claimed again (null if not claimed)
+     */
+    private LocalDateTime leaseExpiresAt;
+
+    /**
+     * Dispatch priority between 0 and 1; higher is claimed first (null until scored)
+     */
+    private Double priority;
+
     /**
      * Creates a new waiting task
      */
     public static HistoryUpdateTask createWaiting(String skinName, Wear wear) {
+        return createWaiting(skinName, wear, null);
+    }
+
+    /**
+     * Creates a new waiting task with a dispatch priority
+     */
+    public static HistoryUpdateTask createWaiting(String skinName, Wear wear, Double priority) {
         return HistoryUpdateTask.builder()
                 .skinName(skinName)
                 .wear(wear)
                 .status(TaskStatus.WAITING)
                 .createdAt(LocalDateTime.now())
                 .finishedAt(null)
+                .priority(priority)
                 .build();
     }
 
@@ -67,5 +90,6 @@ public class HistoryUpdateTask {
     public void complete() {
         this.status = TaskStatus.COMPLETED;
         this.finishedAt = LocalDateTime.now();
+        this.leaseExpiresAt = null;
     }
 }
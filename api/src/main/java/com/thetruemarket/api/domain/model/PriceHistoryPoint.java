@@ -0,0 +1,53 @@
+package com.thetruemarket.api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One bucket of a price history series for a skin name and wear
+ * All prices in USD (cents)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceHistoryPoint {
+    /**
+     * Start of the bucket (inclusive)
+     */
+    private LocalDateTime bucketStart;
+
+    /**
+     * Lowest average price valid during the bucket
+     */
+    private Long minAveragePrice;
+
+    /**
+     * Highest average price valid during the bucket
+     */
+    private Long maxAveragePrice;
+
+    /**
+     * Mean of the average prices valid during the bucket
+     */
+    private Long avgAveragePrice;
+
+    /**
+     * Mean of the last sale prices valid during the bucket
+     */
+    private Long avgLastSalePrice;
+
+    /**
+     * Mean of the lowest buy order prices valid during the bucket
+     */
+    private Long avgLowestBuyOrderPrice;
+
+    /**
+     * Number of raw history rows behind the bucket
+     */
+    private Long sampleCount;
+}
@@ -0,0 +1,61 @@
+package com.thetruemarket.api.domain.model;
+
+import com.thetruemarket.api.domain.valueobject.SkinStatus;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Domain value object describing which skin listings a query should return
+ * Every criterion is optional; null or empty values mean "do not filter"
+ * Framework-agnostic pure domain model
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkinFilter {
+    /**
+     * Listing status (e.g., AVAILABLE)
+     */
+    private SkinStatus status;
+
+    /**
+     * Market sources to include (e.g., "bitskins", "dashskins")
+     */
+    private List<String> marketSources;
+
+    /**
+     * Wear categories to include
+     */
+    private List<Wear> wears;
+
+    /**
+     * Minimum market price in USD cents (inclusive)
+     */
+    private Long minPrice;
+
+    /**
+     * Maximum market price in USD cents (inclusive)
+     */
+    private Long maxPrice;
+
+    /**
+     * Minimum float value (inclusive, 0.00 - 1.00)
+     */
+    private Double minFloat;
+
+    /**
+     * Maximum float value (inclusive, 0.00 - 1.00)
+     */
+    private Double maxFloat;
+
+    /**
+     * Case-insensitive substring of the skin name (e.g., "redline")
+     */
+    private String nameQuery;
+}
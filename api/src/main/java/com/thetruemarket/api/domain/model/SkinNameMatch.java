@@ -0,0 +1,37 @@
+package com.thetruemarket.api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Domain value object representing one skin name returned by a name search
+ * Carries the number of live listings and the cheapest of them
+ * Framework-agnostic pure domain model
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkinNameMatch {
+    /**
+     * Full skin name (e.g., "AK-47 | Redline (Field-Tested)")
+     */
+    private String skinName;
+
+    /**
+     * Cached image URL (can be null if not resolved yet)
+     */
+    private String imageUrl;
+
+    /**
+     * Number of AVAILABLE listings with this name
+     */
+    private int listingCount;
+
+    /**
+     * Cheapest AVAILABLE listing with this name (null if there is none)
+     */
+    private Skin bestListing;
+}
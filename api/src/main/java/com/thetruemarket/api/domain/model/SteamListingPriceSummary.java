@@ -0,0 +1,49 @@
+package com.thetruemarket.api.domain.model;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rolling summary of the Steam listing prices of a skin name and wear
+ * Built from the listings received on skin.market.steam, without any scrape
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SteamListingPriceSummary {
+    /**
+     * Skin name
+     */
+    private String skinName;
+
+    /**
+     * Wear category
+     */
+    private Wear wear;
+
+    /**
+     * EWMA of the listing prices of the current window in USD (cents)
+     */
+    private Double ewmaPrice;
+
+    /**
+     * Latest listing price in USD (cents)
+     */
+    private Long lastPrice;
+
+    /**
+     * Number of listings in the current window
+     */
+    private Integer sampleCount;
+
+    /**
+     * When a Steam listing of the item was last received
+     */
+    private LocalDateTime lastObservedAt;
+}
@@ -53,10 +53,15 @@ public class SteamPriceHistory {
     private Long lowestBuyOrderPrice;
 
     /**
-     * When this price data was recorded
+     * When these prices were first recorded (start of their validity)
      */
     private LocalDateTime recordedAt;
 
+    /**
+     * Last time a scrape observed these same prices
+     */
+    private LocalDateTime lastConfirmedAt;
+
     /**
      * When this record was created
      */
@@ -77,6 +82,7 @@ public class SteamPriceHistory {
                 .lastSalePrice(lastSalePrice)
                 .lowestBuyOrderPrice(lowestBuyOrderPrice)
                 .recordedAt(now)
+                .lastConfirmedAt(now)
                 .createdAt(now)
                 .build();
     }
@@ -0,0 +1,43 @@
+package com.thetruemarket.api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Market facts used to score a history update task
+ * Framework-agnostic pure domain model
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPriorityInput {
+    /**
+     * ID of the task being scored (null when scoring a task before it is created)
+     */
+    private Long taskId;
+
+    /**
+     * Cheapest AVAILABLE listing price in USD cents (null if no USD listing)
+     */
+    private Long bestListingPriceUsd;
+
+    /**
+     * Number of AVAILABLE listings for the skin name and wear
+     */
+    private int listingCount;
+
+    /**
+     * Last known Steam average price in USD cents (null if no history)
+     */
+    private Long lastSteamAveragePriceUsd;
+
+    /**
+     * When the last known Steam history was last confirmed (null if no history)
+     */
+    private LocalDateTime lastRecordedAt;
+}
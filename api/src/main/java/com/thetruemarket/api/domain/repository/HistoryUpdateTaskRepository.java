@@ -1,11 +1,16 @@
 package com.thetruemarket.api.domain.repository;
 
 import com.thetruemarket.api.domain.model.HistoryUpdateTask;
+import com.thetruemarket.api.domain.model.TaskPriorityInput;
+import com.thetruemarket.api.domain.valueobject.HistoryExpirationPolicy;
+import com.thetruemarket.api.domain.valueobject.SteamListingPostponePolicy;
 import com.thetruemarket.api.domain.valueobject.TaskStatus;
-import com.thetruemarket.api.domain.valueobject.Wear;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -29,6 +34,32 @@ public interface HistoryUpdateTaskRepository {
      */
     Optional<HistoryUpdateTask> findById(Long id);
 
+    /**
+     * Finds tasks by their IDs in one query
+     *
+     * @param ids The task IDs
+     * @return The tasks found (unknown IDs are skipped)
+     */
+    List<HistoryUpdateTask> findAllById(Collection<Long> ids);
+
+    /**
+     * Finds tasks by their IDs and locks them until the end of the current transaction,
+     * so concurrent completions of the same task are serialized
+     *
+     * @param ids The task IDs
+     * @return The tasks found (unknown IDs are skipped)
+     */
+    List<HistoryUpdateTask> findAllByIdForUpdate(Collection<Long> ids);
+
+    /**
+     * Marks IN_PROGRESS tasks as COMPLETED (finishedAt = now, lease cleared) in one statement
+     * Tasks in any other status are left untouched
+     *
+     * @param ids The task IDs
+     * @return Number of tasks updated
+     */
+    int completeAll(Collection<Long> ids);
+
     /**
      * Finds all tasks with a specific status, ordered by creation date (FIFO)
      *
@@ -38,28 +69,61 @@ public interface HistoryUpdateTaskRepository {
     List<HistoryUpdateTask> findByStatusOrderByCreatedAtAsc(TaskStatus status);
 
     /**
-     * Checks if a waiting task already exists for a skin name and wear combination
+     * Inserts a WAITING task unless an open (WAITING or IN_PROGRESS) task already exists
+     * for its skin name and wear, in one atomic statement
+     * Concurrent callers for the same item never create duplicates.
      *
-     * @param skinName The skin name
-     * @param wear     The wear category
-     * @return true if a waiting task exists, false otherwise
+     * @param task The WAITING task to insert
+     * @return The inserted task, empty if an open task already existed
      */
-    boolean existsBySkinNameAndWearAndStatus(String skinName, Wear wear, TaskStatus status);
+    Optional<HistoryUpdateTask> createWaitingIfAbsent(HistoryUpdateTask task);
 
     /**
-     * Finds all tasks with a specific status and finished before a given date
+     * Deletes a bounded chunk of tasks with a specific status finished before a given date
+     * Each call is committed on its own; call repeatedly until it returns less than the limit
      *
      * @param status         The status to filter by
      * @param finishedBefore The date threshold for finished_at
-     * @return List of tasks matching the criteria
+     * @param limit          Maximum number of tasks deleted by this call
+     * @return Number of tasks deleted
      */
-    List<HistoryUpdateTask> findByStatusAndFinishedAtBefore(TaskStatus status, LocalDateTime finishedBefore);
+    int deleteChunkByStatusAndFinishedAtBefore(TaskStatus status, LocalDateTime finishedBefore, int limit);
 
     /**
-     * Deletes all tasks with a specific status and finished before a given date
+     * Creates WAITING tasks, in one set-based statement, for every distinct (skin name, wear)
+     * among AVAILABLE skins whose price history is missing or expired, skipping combinations
+     * that already have an open (WAITING or IN_PROGRESS) task and those postponed by live Steam listings
      *
-     * @param status         The status to filter by
-     * @param finishedBefore The date threshold for finished_at
+     * @param expirationPolicy Rule giving each item's history expiration from its price volatility
+     * @param postponePolicy   Rule letting Steam listings postpone an expired history
+     * @return The created tasks
+     */
+    List<HistoryUpdateTask> createWaitingForStaleAvailableSkins(HistoryExpirationPolicy expirationPolicy,
+                                                                SteamListingPostponePolicy postponePolicy);
+
+    /**
+     * Atomically claims up to limit tasks for a worker, highest priority first (oldest first on ties)
+     * Claimable tasks are WAITING ones and IN_PROGRESS ones whose lease has expired;
+     * concurrent claims never return the same task
+     *
+     * @param workerId      Identifier of the claiming worker
+     * @param leaseDuration How long the worker owns the tasks
+     * @param limit         Maximum number of tasks to claim
+     * @return The claimed tasks, now IN_PROGRESS, in dispatch order
+     */
+    List<HistoryUpdateTask> claim(String workerId, Duration leaseDuration, int limit);
+
+    /**
+     * Gathers the priority inputs of every open (WAITING or IN_PROGRESS) task in one query
+     *
+     * @return One input per open task, keyed by TaskPriorityInput.taskId
+     */
+    List<TaskPriorityInput> findOpenTaskPriorityInputs();
+
+    /**
+     * Updates the priority of many tasks in one batch
+     *
+     * @param prioritiesByTaskId New priority per task ID
      */
-    void deleteByStatusAndFinishedAtBefore(TaskStatus status, LocalDateTime finishedBefore);
+    void updatePriorities(Map<Long, Double> prioritiesByTaskId);
 }
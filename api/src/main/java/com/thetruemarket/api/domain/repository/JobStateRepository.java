@@ -0,0 +1,73 @@
+package com.thetruemarket.api.domain.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Repository port for cluster-wide scheduled job state (lease lock and cursor)
+ * and cluster-wide fixed-window budgets
+ * Interface following Dependency Inversion Principle (SOLID)
+ *
+ * Every replica of the API shares this state, so a job guarded by it runs on one
+ * replica at a time and resumes from the same cursor after a restart.
+ */
+public interface JobStateRepository {
+    /**
+     * Tries to acquire the lease lock of a job
+     * Succeeds only if nobody holds the lock or the previous lease has expired
+     *
+     * @param jobName       Unique job name
+     * @param owner         Identifier of the acquiring instance
+     * @param lockAtMostFor Lease duration; the lock is released automatically after it
+     *                      (protects against a crashed holder)
+     * @return true if the lock was acquired, false if another instance holds it
+     */
+    boolean tryLock(String jobName, String owner, Duration lockAtMostFor);
+
+    /**
+     * Releases the lease lock of a job held by the given owner
+     * The lock is kept until at least lockAtLeastFor after acquisition, so replicas
+     * with slightly skewed schedules do not run the same job right after each other
+     *
+     * @param jobName        Unique job name
+     * @param owner          Identifier of the instance holding the lock
+     * @param lockAtLeastFor Minimum time the lock stays held after acquisition
+     */
+    void unlock(String jobName, String owner, Duration lockAtLeastFor);
+
+    /**
+     * Finds the persisted cursor of a job
+     *
+     * @param jobName Unique job name
+     * @return Optional containing the cursor if one was saved
+     */
+    Optional<String> findCursor(String jobName);
+
+    /**
+     * Saves the cursor of a job (opaque to the repository)
+     *
+     * @param jobName Unique job name
+     * @param cursor  The cursor value, or null to reset it
+     */
+    void saveCursor(String jobName, String cursor);
+
+    /**
+     * Reserves up to requested units of a budget shared by every replica
+     * The window restarts once it is older than window
+     *
+     * @param name      Unique budget name
+     * @param requested Units wanted
+     * @param budget    Units available per window
+     * @param window    Window length
+     * @return Units granted (0 when the window is exhausted)
+     */
+    int acquireBudget(String name, int requested, int budget, Duration window);
+
+    /**
+     * Gives back units reserved but not used
+     *
+     * @param name   Unique budget name
+     * @param unused Units to give back
+     */
+    void releaseBudget(String name, int unused);
+}
@@ -0,0 +1,99 @@
+package com.thetruemarket.api.domain.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository port for the storage lifecycle of Steam price history:
+ * monthly raw partitions, hourly/daily rollups and retention
+ * Interface following Dependency Inversion Principle (SOLID)
+ *
+ * Raw rows are stored only on price changes and stay valid from recorded_at to
+ * last_confirmed_at. Rollups keep, per (skin name, wear) and bucket, the min, max and
+ * average of the average price, the average last sale and lowest buy order prices, and
+ * the number of raw rows valid during the bucket (sample count).
+ */
+public interface PriceHistoryMaintenanceRepository {
+    /**
+     * Checks whether raw history is stored in monthly partitions
+     *
+     * @return true if steam_price_history is partitioned
+     */
+    boolean isPartitioned();
+
+    /**
+     * Creates the missing monthly partitions between two months (inclusive)
+     *
+     * @param from First month
+     * @param to   Last month
+     * @return Number of partitions created
+     */
+    int ensureMonthlyPartitions(YearMonth from, YearMonth to);
+
+    /**
+     * Lists the months that have a raw history partition
+     *
+     * @return Partition months in ascending order
+     */
+    List<YearMonth> findRawPartitions();
+
+    /**
+     * Copies the rows of a month's partition that are still the latest of their item and
+     * were confirmed after the month ended, so dropping the partition keeps current prices
+     *
+     * @param month The partition month
+     * @return Number of rows carried forward
+     */
+    int carryForwardCurrentRows(YearMonth month);
+
+    /**
+     * Drops the raw history partition of a month
+     *
+     * @param month The partition month
+     */
+    void dropRawPartition(YearMonth month);
+
+    /**
+     * Finds the oldest raw history timestamp
+     *
+     * @return Optional containing the oldest recorded_at, empty if there is no history
+     */
+    Optional<LocalDateTime> findOldestRecordedAt();
+
+    /**
+     * Aggregates raw history valid in [from, to) into hourly rollups (upsert, safe to repeat)
+     *
+     * @param from Start of the first hour (inclusive)
+     * @param to   End of the last hour (exclusive)
+     * @return Number of hourly rows written
+     */
+    int rollUpHourly(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Aggregates hourly rollups of the days in [from, to) into daily rollups (upsert, safe to repeat)
+     *
+     * @param from First day (inclusive)
+     * @param to   Last day (exclusive)
+     * @return Number of daily rows written
+     */
+    int rollUpDaily(LocalDate from, LocalDate to);
+
+    /**
+     * Deletes hourly rollups of buckets before a given time
+     *
+     * @param before Buckets starting before this instant are deleted
+     * @return Number of rows deleted
+     */
+    int deleteHourlyBefore(LocalDateTime before);
+
+    /**
+     * Deletes daily rollups of days before a given date
+     *
+     * @param before Days before this date are deleted
+     * @return Number of rows deleted
+     */
+    int deleteDailyBefore(LocalDate before);
+}
@@ -0,0 +1,28 @@
+package com.thetruemarket.api.domain.repository;
+
+import com.thetruemarket.api.domain.model.PriceHistoryPoint;
+import com.thetruemarket.api.domain.valueobject.HistoryBucket;
+import com.thetruemarket.api.domain.valueobject.Wear;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository port for reading bucketed Steam price history series
+ * Interface following Dependency Inversion Principle (SOLID)
+ */
+public interface PriceHistorySeriesRepository {
+    /**
+     * Finds the buckets of a skin name and wear starting in [from, to)
+     * Only buckets with data are returned
+     *
+     * @param skinName The skin name
+     * @param wear     The wear category
+     * @param bucket   The bucket size
+     * @param from     Range start (inclusive)
+     * @param to       Range end (exclusive)
+     * @return Points in ascending bucket order
+     */
+    List<PriceHistoryPoint> findSeries(String skinName, Wear wear, HistoryBucket bucket,
+                                       LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,36 @@
+package com.thetruemarket.api.domain.repository;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+
+import java.util.Optional;
+
+/**
+ * Repository port for the per-item price volatility estimate
+ * Interface following Dependency Inversion Principle (SOLID)
+ *
+ * Volatility is the EWMA of the relative change of the Steam average price
+ * between successive price history records of the same skin name and wear.
+ */
+public interface PriceVolatilityRepository {
+    /**
+     * Folds a newly recorded Steam average price into the item's volatility estimate
+     * The first price only seeds the estimate; each following one updates
+     * ewma = smoothing * |price - previous| / previous + (1 - smoothing) * ewma
+     *
+     * @param skinName     The skin name
+     * @param wear         The wear category
+     * @param averagePrice The newly recorded average price (USD cents)
+     * @param smoothing    EWMA smoothing factor (weight of the newest change, 0 - 1)
+     * @return The updated volatility, empty while fewer than two prices were recorded
+     */
+    Optional<Double> recordAveragePrice(String skinName, Wear wear, Long averagePrice, double smoothing);
+
+    /**
+     * Finds the current volatility estimate of an item
+     *
+     * @param skinName The skin name
+     * @param wear     The wear category
+     * @return The EWMA of the relative price change, empty if fewer than two prices were recorded
+     */
+    Optional<Double> findVolatility(String skinName, Wear wear);
+}
@@ -1,7 +1,7 @@
 package com.thetruemarket.api.domain.repository;
 
 import com.thetruemarket.api.domain.model.Skin;
-import com.thetruemarket.api.domain.valueobject.SkinStatus;
+import com.thetruemarket.api.domain.model.SkinFilter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -54,12 +54,42 @@ public interface SkinRepository {
     Page<Skin> findAll(Pageable pageable);
 
     /**
-     * Finds all skins with specific status that haven't been seen since the cutoff date
-     * Used for cleanup operations to identify stale skins
+     * Finds all skins matching the given filter
+     * Only the criteria present in the filter are applied
+     *
+     * @param filter The filter criteria
+     * @return List of skins matching every criterion of the filter
+     */
+    List<Skin> findByFilter(SkinFilter filter);
+
+    /**
+     * Marks a chunk of AVAILABLE skins not seen since the cutoff date as SOLD
+     * Set-based: no skin is loaded into memory. Each call is committed on its own.
      *
-     * @param status The skin status to filter by
      * @param cutoffDate The last seen cutoff date
-     * @return List of skins not seen since the cutoff date
+     * @param chunkSize Maximum number of skins marked by this call
+     * @return IDs of the skins marked as SOLD (fewer than chunkSize when nothing is left)
+     */
+    List<String> markStaleAsSold(LocalDateTime cutoffDate, int chunkSize);
+
+    /**
+     * Moves a chunk of skins marked as SOLD before the cutoff date out of the live table into the archive
+     * Each call is committed on its own; archived skins are no longer returned by this repository.
+     *
+     * @param soldBefore Skins marked as SOLD before this date are archived
+     * @param chunkSize Maximum number of skins archived by this call
+     * @return Number of skins archived (fewer than chunkSize when nothing is left)
+     */
+    int archiveSold(LocalDateTime soldBefore, int chunkSize);
+
+    /**
+     * Finds AVAILABLE skins carrying a sticker with the given name and/or class ID, cheapest first
+     * A null criterion is ignored; when both are given they must match the same sticker.
+     *
+     * @param stickerName Exact sticker name (nullable)
+     * @param classId Exact sticker class ID (nullable)
+     * @param limit Maximum number of skins returned
+     * @return Matching AVAILABLE skins ordered by price
      */
-    List<Skin> findByStatusAndLastSeenAtBefore(SkinStatus status, LocalDateTime cutoffDate);
+    List<Skin> findAvailableBySticker(String stickerName, String classId, int limit);
 }
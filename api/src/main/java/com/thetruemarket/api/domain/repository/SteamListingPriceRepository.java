@@ -0,0 +1,37 @@
+package com.thetruemarket.api.domain.repository;
+
+import com.thetruemarket.api.domain.model.SteamListingPriceSummary;
+import com.thetruemarket.api.domain.valueobject.Wear;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Repository port for the rolling per-item summary of Steam listing prices
+ * Interface following Dependency Inversion Principle (SOLID)
+ */
+public interface SteamListingPriceRepository {
+    /**
+     * Folds a Steam listing price into the item's summary
+     * ewma = smoothing * price + (1 - smoothing) * ewma, reseeded with the price when the
+     * previous listing is older than the window
+     *
+     * @param skinName  The skin name
+     * @param wear      The wear category
+     * @param priceUsd  The listing price (USD cents)
+     * @param smoothing EWMA smoothing factor (weight of the newest price, 0 - 1)
+     * @param window    Gap after which the summary starts over
+     * @return The updated summary
+     */
+    SteamListingPriceSummary recordListingPrice(String skinName, Wear wear, Long priceUsd, double smoothing,
+                                                Duration window);
+
+    /**
+     * Finds the listing price summary of an item
+     *
+     * @param skinName The skin name
+     * @param wear     The wear category
+     * @return Optional containing the summary, empty if no Steam listing was received
+     */
+    Optional<SteamListingPriceSummary> findSummary(String skinName, Wear wear);
+}
@@ -1,8 +1,10 @@
 package com.thetruemarket.api.domain.repository;
 
+import com.thetruemarket.api.domain.model.HistoryFreshness;
 import com.thetruemarket.api.domain.model.SteamPriceHistory;
 import com.thetruemarket.api.domain.valueobject.Wear;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,12 +13,14 @@ import java.util.Optional;
  */
 public interface SteamPriceHistoryRepository {
     /**
-     * Saves a price history record to the repository
+     * Records scraped prices, storing a new row only when a price changed
+     * An observation whose three prices equal those of the item's latest row only moves that
+     * row's lastConfirmedAt forward; any other observation is inserted as a new row.
      *
-     * @param priceHistory The price history record to save
-     * @return The saved record
+     * @param observations The scraped prices, at most one per skin name and wear
+     * @return Number of new rows inserted (the others extended an existing row)
      */
-    SteamPriceHistory save(SteamPriceHistory priceHistory);
+    int recordAll(List<SteamPriceHistory> observations);
 
     /**
      * Finds the most recent price history for a specific skin name and wear combination
@@ -26,4 +30,12 @@ public interface SteamPriceHistoryRepository {
      * @return Optional containing the most recent price history if found
      */
     Optional<SteamPriceHistory> findLatestBySkinNameAndWear(String skinName, Wear wear);
+
+    /**
+     * Finds the latest confirmation time and current volatility of every skin name and wear
+     * combination that has price history
+     *
+     * @return One entry per combination
+     */
+    List<HistoryFreshness> findLatestFreshnessPerItem();
 }
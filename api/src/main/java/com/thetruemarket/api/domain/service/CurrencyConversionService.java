@@ -12,4 +12,21 @@ public interface CurrencyConversionService {
      * @return The amount in US Dollars (cents)
      */
     Long convertBrlToUsd(Long amountInBrl);
+
+    /**
+     * Returns the current BRL to USD exchange rate, so a batch of amounts can be
+     * converted with one consistent rate snapshot
+     *
+     * @return USD per BRL
+     */
+    double getBrlToUsdRate();
+
+    /**
+     * Converts an amount from BRL to USD with a given rate snapshot
+     *
+     * @param amountInBrl The amount in Brazilian Reais (cents)
+     * @param rate        USD per BRL (see getBrlToUsdRate)
+     * @return The amount in US Dollars (cents)
+     */
+    Long convertBrlToUsd(Long amountInBrl, double rate);
 }
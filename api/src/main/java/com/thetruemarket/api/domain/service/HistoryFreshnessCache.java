@@ -0,0 +1,53 @@
+package com.thetruemarket.api.domain.service;
+
+import com.thetruemarket.api.domain.model.HistoryFreshness;
+import com.thetruemarket.api.domain.valueobject.Wear;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Service port keeping the latest price history time of every skin name and wear in memory
+ * Interface following Dependency Inversion Principle (SOLID)
+ *
+ * Entries are only ever moved forward in time, so a late update can never make
+ * an item look older than it is.
+ */
+public interface HistoryFreshnessCache {
+    /**
+     * Looks up the cached freshness of an item
+     *
+     * @param skinName The skin name
+     * @param wear     The wear category
+     * @return The cached freshness, empty if the item is unknown to this instance
+     */
+    Optional<HistoryFreshness> get(String skinName, Wear wear);
+
+    /**
+     * Records the latest known price history of an item
+     * Ignored if the cache already holds a more recent record
+     *
+     * @param freshness Recording time and volatility of the item
+     */
+    void record(HistoryFreshness freshness);
+
+    /**
+     * Remembers that the database was just checked and the item's history is missing or expired
+     * Forgotten at the given time, or as soon as a history of the item is recorded
+     *
+     * @param skinName The skin name
+     * @param wear     The wear category
+     * @param until    Until when the check may be trusted
+     */
+    void recordStale(String skinName, Wear wear, LocalDateTime until);
+
+    /**
+     * Checks if a recent database check found the item's history missing or expired
+     *
+     * @param skinName The skin name
+     * @param wear     The wear category
+     * @param now      Reference time
+     * @return true if the item is known to need an update
+     */
+    boolean isKnownStale(String skinName, Wear wear, LocalDateTime now);
+}
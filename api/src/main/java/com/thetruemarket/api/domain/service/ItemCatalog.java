@@ -0,0 +1,31 @@
+package com.thetruemarket.api.domain.service;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+
+import java.util.Optional;
+
+/**
+ * Service port mapping each (market name, wear) to its compact integer item ID
+ * Interface following Dependency Inversion Principle (SOLID)
+ *
+ * IDs never change once assigned, so implementations may cache them indefinitely.
+ */
+public interface ItemCatalog {
+    /**
+     * Resolves the item ID of a market name and wear, registering the item on first sight
+     *
+     * @param skinName The market name
+     * @param wear     The wear category
+     * @return The item ID
+     */
+    int resolveId(String skinName, Wear wear);
+
+    /**
+     * Finds the item ID of a market name and wear without registering it (for read paths)
+     *
+     * @param skinName The market name
+     * @param wear     The wear category
+     * @return The item ID, or empty if the item was never registered
+     */
+    Optional<Integer> findId(String skinName, Wear wear);
+}
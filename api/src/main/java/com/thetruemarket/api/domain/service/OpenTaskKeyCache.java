@@ -0,0 +1,38 @@
+package com.thetruemarket.api.domain.service;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+
+/**
+ * Service port remembering, for a short time, which skin name and wear combinations
+ * already have an open history update task
+ * Interface following Dependency Inversion Principle (SOLID)
+ *
+ * Only a shortcut: the database remains the source of truth, so a missing or
+ * expired entry just means the insert-if-absent statement is run again.
+ */
+public interface OpenTaskKeyCache {
+    /**
+     * Checks if an open task was recently seen for an item
+     *
+     * @param skinName The skin name
+     * @param wear     The wear category
+     * @return true if the item is known to have an open task
+     */
+    boolean isKnownOpen(String skinName, Wear wear);
+
+    /**
+     * Remembers that an item has an open task
+     *
+     * @param skinName The skin name
+     * @param wear     The wear category
+     */
+    void markOpen(String skinName, Wear wear);
+
+    /**
+     * Forgets an item, e.g. once its task has been completed
+     *
+     * @param skinName The skin name
+     * @param wear     The wear category
+     */
+    void markClosed(String skinName, Wear wear);
+}
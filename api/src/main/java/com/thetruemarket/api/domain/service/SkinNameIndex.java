@@ -0,0 +1,46 @@
+package com.thetruemarket.api.domain.service;
+
+import com.thetruemarket.api.domain.model.Skin;
+import com.thetruemarket.api.domain.model.SkinNameMatch;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service port for searching skin names by prefix or substring
+ * Interface following Dependency Inversion Principle (SOLID)
+ * Implementations are expected to answer from memory and be updated incrementally
+ */
+public interface SkinNameIndex {
+    /**
+     * Registers a skin name (e.g., from the skins_images cache), even without listings
+     *
+     * @param skinName The skin name
+     * @param imageUrl The cached image URL (nullable)
+     */
+    void registerName(String skinName, String imageUrl);
+
+    /**
+     * Adds or refreshes a listing; listings that are not AVAILABLE are removed
+     *
+     * @param skin The persisted skin listing
+     */
+    void recordListing(Skin skin);
+
+    /**
+     * Removes listings that are no longer available
+     *
+     * @param skinIds IDs of the listings to remove
+     */
+    void removeListings(Collection<String> skinIds);
+
+    /**
+     * Searches skin names matching the query
+     * Prefix matches come first, followed by substring matches with the most listings
+     *
+     * @param query Case-insensitive prefix or substring
+     * @param limit Maximum number of names to return
+     * @return Matching names with listing counts and best current listing
+     */
+    List<SkinNameMatch> search(String query, int limit);
+}
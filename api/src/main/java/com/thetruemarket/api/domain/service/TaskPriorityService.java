@@ -0,0 +1,23 @@
+package com.thetruemarket.api.domain.service;
+
+import com.thetruemarket.api.domain.model.TaskPriorityInput;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service port for scoring history update tasks
+ * Interface following Dependency Inversion Principle (SOLID)
+ * Higher scores are dispatched to scraper workers first
+ */
+public interface TaskPriorityService {
+    /**
+     * Calculates the dispatch priority of a history update task
+     * Combines the listing discount against the last known Steam price,
+     * the number of listings and the staleness of the history
+     *
+     * @param input Market facts for the task's skin name and wear
+     * @param now   Reference time for staleness
+     * @return Priority score between 0 and 1
+     */
+    double calculatePriority(TaskPriorityInput input, LocalDateTime now);
+}
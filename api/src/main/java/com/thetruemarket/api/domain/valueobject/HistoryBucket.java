@@ -0,0 +1,43 @@
+package com.thetruemarket.api.domain.valueobject;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Bucket size of a price history series
+ * Each size has a default range, used when the caller gives no start
+ */
+@Getter
+public enum HistoryBucket {
+    HOUR("1h", Duration.ofHours(1), Duration.ofDays(7)),
+    DAY("1d", Duration.ofDays(1), Duration.ofDays(180)),
+    WEEK("1w", Duration.ofDays(7), Duration.ofDays(3 * 365));
+
+    private final String code;
+    private final Duration length;
+    private final Duration defaultRange;
+
+    HistoryBucket(String code, Duration length, Duration defaultRange) {
+        this.code = code;
+        this.length = length;
+        this.defaultRange = defaultRange;
+    }
+
+    /**
+     * Maps a bucket code to its enum
+     *
+     * @param code The bucket code ("1h", "1d" or "1w")
+     * @return The corresponding bucket size
+     * @throws IllegalArgumentException if the code is unknown
+     */
+    public static HistoryBucket fromCode(String code) {
+        for (HistoryBucket bucket : values()) {
+            if (bucket.code.equalsIgnoreCase(code)) {
+                return bucket;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown bucket: " + code + ". Valid values: 1h, 1d, 1w");
+    }
+}
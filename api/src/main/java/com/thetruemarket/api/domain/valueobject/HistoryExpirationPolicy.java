@@ -0,0 +1,57 @@
+package com.thetruemarket.api.domain.valueobject;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Rule deciding how long the price history of one skin name and wear stays valid
+ *
+ * The base expiration is scaled by targetVolatility / volatility, where volatility is the
+ * EWMA of the relative change of the Steam average price between successive records:
+ * stable items keep their history longer, fast movers are refreshed sooner.
+ * The result is clamped to [minSeconds, maxSeconds]; items without a volatility
+ * estimate yet use the base expiration.
+ *
+ * The stale-task scan evaluates the same formula in SQL
+ * (see HistoryUpdateTaskJpaRepository#insertWaitingForStaleAvailableSkins).
+ */
+@Getter
+public class HistoryExpirationPolicy {
+    private final int baseSeconds;
+    private final int minSeconds;
+    private final int maxSeconds;
+    private final double targetVolatility;
+
+    public HistoryExpirationPolicy(int baseSeconds, int minSeconds, int maxSeconds, double targetVolatility) {
+        if (minSeconds > maxSeconds) {
+            throw new IllegalArgumentException(
+                    String.format("Minimum expiration (%ds) is greater than maximum (%ds)", minSeconds, maxSeconds));
+        }
+        this.baseSeconds = baseSeconds;
+        this.minSeconds = minSeconds;
+        this.maxSeconds = maxSeconds;
+        this.targetVolatility = targetVolatility;
+    }
+
+    /**
+     * Calculates the expiration of an item's price history
+     *
+     * @param volatility EWMA of the relative price change (null if not yet known)
+     * @return How long the latest history of the item stays valid
+     */
+    public Duration expirationFor(Double volatility) {
+        double seconds;
+        if (volatility == null) {
+            seconds = baseSeconds;
+        } else if (volatility <= 0) {
+            // Price never moved: keep it as long as allowed
+            seconds = maxSeconds;
+        } else {
+            seconds = baseSeconds * targetVolatility / volatility;
+        }
+
+        seconds = Math.max(minSeconds, Math.min(maxSeconds, seconds));
+        return Duration.ofMillis(Math.round(seconds * 1000));
+    }
+}
@@ -0,0 +1,79 @@
+package com.thetruemarket.api.domain.valueobject;
+
+import com.thetruemarket.api.domain.model.SteamListingPriceSummary;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rule deciding when live Steam listings let an expired price history wait for its scrape
+ *
+ * An item is postponed while:
+ * - a Steam listing of it was received within the last listingWindowSeconds,
+ * - the EWMA of those listing prices stays within priceTolerance of the history's average price,
+ * - and the history was confirmed within the last maxHistoryAgeSeconds (hard upper bound).
+ * A maxHistoryAgeSeconds of 0 disables postponing.
+ *
+ * The stale-task scan evaluates the same rule in SQL
+ * (see HistoryUpdateTaskJpaRepository#insertWaitingForStaleAvailableSkins).
+ */
+@Getter
+public class SteamListingPostponePolicy {
+    private final int listingWindowSeconds;
+    private final int maxHistoryAgeSeconds;
+    private final double priceTolerance;
+
+    public SteamListingPostponePolicy(int listingWindowSeconds, int maxHistoryAgeSeconds, double priceTolerance) {
+        if (priceTolerance < 0) {
+            throw new IllegalArgumentException("Price tolerance cannot be negative: " + priceTolerance);
+        }
+        this.listingWindowSeconds = listingWindowSeconds;
+        this.maxHistoryAgeSeconds = maxHistoryAgeSeconds;
+        this.priceTolerance = priceTolerance;
+    }
+
+    /**
+     * @return false when postponing is disabled (maxHistoryAgeSeconds of 0)
+     */
+    public boolean isEnabled() {
+        return maxHistoryAgeSeconds > 0;
+    }
+
+    /**
+     * Checks whether an item's expired history can wait for its scrape
+     *
+     * @param summary             Steam listing summary of the item (null if none)
+     * @param historyAveragePrice Average price of the latest history in USD (cents)
+     * @param historyConfirmedAt  When the latest history was last confirmed
+     * @param now                 Reference time
+     * @return true if the listings vouch for the current history
+     */
+    public boolean postpones(SteamListingPriceSummary summary, Long historyAveragePrice,
+                             LocalDateTime historyConfirmedAt, LocalDateTime now) {
+        if (!isEnabled() || summary == null || summary.getEwmaPrice() == null
+                || historyAveragePrice == null || historyAveragePrice <= 0 || historyConfirmedAt == null) {
+            return false;
+        }
+
+        if (summary.getLastObservedAt().isBefore(now.minusSeconds(listingWindowSeconds))
+                || historyConfirmedAt.isBefore(now.minusSeconds(maxHistoryAgeSeconds))) {
+            return false;
+        }
+
+        return Math.abs(summary.getEwmaPrice() - historyAveragePrice) <= priceTolerance * historyAveragePrice;
+    }
+
+    /**
+     * Latest time a postponement granted now can still hold: when the latest listing leaves
+     * the listing window or the history reaches the maximum age, whichever comes first
+     *
+     * @param summary            Steam listing summary of the item (must have postponed it)
+     * @param historyConfirmedAt When the latest history was last confirmed
+     * @return End of the postponement at the latest
+     */
+    public LocalDateTime postponedUntil(SteamListingPriceSummary summary, LocalDateTime historyConfirmedAt) {
+        LocalDateTime listingsExpireAt = summary.getLastObservedAt().plusSeconds(listingWindowSeconds);
+        LocalDateTime historyTooOldAt = historyConfirmedAt.plusSeconds(maxHistoryAgeSeconds);
+        return listingsExpireAt.isBefore(historyTooOldAt) ? listingsExpireAt : historyTooOldAt;
+    }
+}
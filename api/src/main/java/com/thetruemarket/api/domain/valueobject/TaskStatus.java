@@ -1,5 +1,7 @@
 package com.thetruemarket.api.domain.valueobject;
 
+import java.util.List;
+
 /**
  * Status of a history update task
  */
@@ -9,8 +11,19 @@ public enum TaskStatus {
      */
     WAITING,
 
+    /**
+     * Task claimed by a worker under a lease; returns to the claimable pool once the lease expires
+     */
+    IN_PROGRESS,
+
     /**
      * Task has been completed successfully
      */
-    COMPLETED
+    COMPLETED;
+
+    /**
+     * Statuses of a task that still has to be (or is being) processed
+     * At most one open task should exist per skin name and wear
+     */
+    public static final List<TaskStatus> OPEN_STATUSES = List.of(WAITING, IN_PROGRESS);
 }
@@ -0,0 +1,101 @@
+package com.thetruemarket.api.infrastructure.cache;
+
+import com.thetruemarket.api.domain.event.PriceHistoryRecordedEvent;
+import com.thetruemarket.api.domain.model.HistoryFreshness;
+import com.thetruemarket.api.domain.repository.SteamPriceHistoryRepository;
+import com.thetruemarket.api.domain.service.HistoryFreshnessCache;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory map from (skin name, wear) to the latest price history time and volatility
+ *
+ * Loaded once on startup with one aggregate query, then kept up to date by task
+ * completions (PriceHistoryRecordedEvent) and by the database fallback of
+ * CheckPriceHistoryUseCase, which also catches completions handled by other replicas.
+ * Items that fallback found missing or expired are remembered for a short time too,
+ * so repeated listings of them do not query the database again.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryHistoryFreshnessCache implements HistoryFreshnessCache {
+    private final SteamPriceHistoryRepository priceHistoryRepository;
+
+    private final ConcurrentMap<ItemKey, HistoryFreshness> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ItemKey, LocalDateTime> staleUntilByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the latest history time of every item once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+
+        priceHistoryRepository.findLatestFreshnessPerItem().forEach(this::record);
+
+        log.info("History freshness cache loaded: {} items in {} ms",
+                entries.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Follows task completions once the new history has been committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceHistoryRecorded(PriceHistoryRecordedEvent event) {
+        record(event.getFreshness());
+    }
+
+    @Override
+    public Optional<HistoryFreshness> get(String skinName, Wear wear) {
+        return Optional.ofNullable(entries.get(new ItemKey(skinName, wear)));
+    }
+
+    @Override
+    public void record(HistoryFreshness freshness) {
+        if (freshness == null || freshness.getRecordedAt() == null) {
+            return;
+        }
+
+        ItemKey key = new ItemKey(freshness.getSkinName(), freshness.getWear());
+        entries.merge(key, freshness,
+                (current, candidate) -> candidate.getRecordedAt().isBefore(current.getRecordedAt())
+                        ? current
+                        : candidate);
+        staleUntilByKey.remove(key);
+    }
+
+    @Override
+    public void recordStale(String skinName, Wear wear, LocalDateTime until) {
+        staleUntilByKey.put(new ItemKey(skinName, wear), until);
+    }
+
+    @Override
+    public boolean isKnownStale(String skinName, Wear wear, LocalDateTime now) {
+        ItemKey key = new ItemKey(skinName, wear);
+        LocalDateTime until = staleUntilByKey.get(key);
+        if (until == null) {
+            return false;
+        }
+
+        if (!now.isBefore(until)) {
+            staleUntilByKey.remove(key, until);
+            return false;
+        }
+
+        return true;
+    }
+
+    private record ItemKey(String skinName, Wear wear) {
+    }
+}
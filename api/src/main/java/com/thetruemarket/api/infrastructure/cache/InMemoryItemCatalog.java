@@ -0,0 +1,78 @@
+package com.thetruemarket.api.infrastructure.cache;
+
+import com.thetruemarket.api.domain.service.ItemCatalog;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import com.thetruemarket.api.infrastructure.persistence.entity.ItemEntity;
+import com.thetruemarket.api.infrastructure.persistence.repository.ItemJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory dictionary from (market name, wear) to item ID
+ *
+ * Loaded once on startup from the items table; unknown items are registered with one
+ * upsert and cached. IDs are immutable, so entries never need invalidation, and replicas
+ * registering the same item concurrently all get the same ID from the unique key.
+ * The upsert runs outside the map's computation (it opens its own transaction), so a slow
+ * database never blocks lookups of other items; concurrent first sights of one item
+ * upsert it twice and get the same ID. Lookups (findId) never register an item.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryItemCatalog implements ItemCatalog {
+    private final ItemJpaRepository itemRepository;
+
+    private final ConcurrentMap<ItemKey, Integer> idsByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Loads every known item once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+
+        for (ItemEntity item : itemRepository.findAll()) {
+            idsByKey.put(new ItemKey(item.getSkinName(), item.getWear()), item.getId());
+        }
+
+        log.info("Item catalog loaded: {} items in {} ms", idsByKey.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public int resolveId(String skinName, Wear wear) {
+        ItemKey key = new ItemKey(skinName, wear);
+        Integer cached = idsByKey.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Integer id = itemRepository.upsertItem(skinName, wear.name());
+        Integer existing = idsByKey.putIfAbsent(key, id);
+        return existing != null ? existing : id;
+    }
+
+    @Override
+    public Optional<Integer> findId(String skinName, Wear wear) {
+        ItemKey key = new ItemKey(skinName, wear);
+        Integer cached = idsByKey.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // Possibly registered by another replica since the warm-up
+        Optional<Integer> id = itemRepository.findBySkinNameAndWear(skinName, wear).map(ItemEntity::getId);
+        id.ifPresent(found -> idsByKey.putIfAbsent(key, found));
+        return id;
+    }
+
+    private record ItemKey(String skinName, Wear wear) {
+    }
+}
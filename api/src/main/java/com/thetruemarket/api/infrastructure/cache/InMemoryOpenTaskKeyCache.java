@@ -0,0 +1,65 @@
+package com.thetruemarket.api.infrastructure.cache;
+
+import com.thetruemarket.api.domain.event.PriceHistoryRecordedEvent;
+import com.thetruemarket.api.domain.service.OpenTaskKeyCache;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import com.thetruemarket.api.infrastructure.config.HistoryConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory set of (skin name, wear) keys with an open history update task
+ *
+ * Entries expire after history.update.open-task-cache-seconds so tasks completed on
+ * other replicas are eventually forgotten; local completions (PriceHistoryRecordedEvent)
+ * remove their key right away.
+ */
+@Component
+@RequiredArgsConstructor
+public class InMemoryOpenTaskKeyCache implements OpenTaskKeyCache {
+    private final HistoryConfig historyConfig;
+
+    private final ConcurrentMap<ItemKey, Long> expiresAtMillisByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Forgets the item once its task completion has been committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceHistoryRecorded(PriceHistoryRecordedEvent event) {
+        markClosed(event.getFreshness().getSkinName(), event.getFreshness().getWear());
+    }
+
+    @Override
+    public boolean isKnownOpen(String skinName, Wear wear) {
+        ItemKey key = new ItemKey(skinName, wear);
+        Long expiresAtMillis = expiresAtMillisByKey.get(key);
+        if (expiresAtMillis == null) {
+            return false;
+        }
+
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            expiresAtMillisByKey.remove(key, expiresAtMillis);
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public void markOpen(String skinName, Wear wear) {
+        expiresAtMillisByKey.put(new ItemKey(skinName, wear),
+                System.currentTimeMillis() + historyConfig.getOpenTaskCacheSeconds() * 1000L);
+    }
+
+    @Override
+    public void markClosed(String skinName, Wear wear) {
+        expiresAtMillisByKey.remove(new ItemKey(skinName, wear));
+    }
+
+    private record ItemKey(String skinName, Wear wear) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.thetruemarket.api.infrastructure.config;
+
+import com.thetruemarket.api.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.thetruemarket.api.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Read replica routing, active only when datasource.replica.url is set
+ *
+ * Replaces Spring Boot's single DataSource with:
+ * - primaryDataSource: the usual pool built from spring.datasource.* (and spring.datasource.hikari.*)
+ * - replicaDataSource: a read-only pool on the replica (datasource.replica.*)
+ * - dataSource (@Primary, used by JPA and JdbcTemplate): lazy proxy over a ReplicaRoutingDataSource
+ *
+ * Without a replica URL this class is skipped and Spring Boot's auto-configured DataSource is used.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class DataSourceRoutingConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties primaryProperties, ReplicaDataSourceConfig replicaConfig) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(replicaConfig.getUrl());
+        replica.setUsername(StringUtils.hasText(replicaConfig.getUsername())
+                ? replicaConfig.getUsername() : primaryProperties.determineUsername());
+        replica.setPassword(StringUtils.hasText(replicaConfig.getPassword())
+                ? replicaConfig.getPassword() : primaryProperties.determinePassword());
+        replica.setMaximumPoolSize(replicaConfig.getMaximumPoolSize());
+        replica.setReadOnly(true);
+        // A replica that is down must not block startup: reads stay on the primary until it is back
+        replica.setInitializationFailTimeout(-1);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaDataSourceConfig replicaConfig
+    ) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, replicaConfig.getMaxLag());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor
+    ) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    }
+}
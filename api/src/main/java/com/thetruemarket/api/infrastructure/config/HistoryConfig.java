@@ -1,5 +1,7 @@
 package com.thetruemarket.api.infrastructure.config;
 
+import com.thetruemarket.api.domain.valueobject.HistoryExpirationPolicy;
+import com.thetruemarket.api.domain.valueobject.SteamListingPostponePolicy;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -14,8 +16,114 @@ import org.springframework.context.annotation.Configuration;
 @Setter
 public class HistoryConfig {
     /**
-     * Number of seconds after which price history is considered outdated
+     * Number of seconds after which price history is considered outdated, for an item
+     * whose volatility equals targetVolatility (or is not known yet)
      * Default: 30 seconds
      */
     private int expirationSeconds = 30;
+
+    /**
+     * Lower bound of the volatility-adjusted expiration (fast-moving items)
+     * Set both bounds to expirationSeconds to disable the adjustment
+     * Default: 15 seconds
+     */
+    private int minExpirationSeconds = 15;
+
+    /**
+     * Upper bound of the volatility-adjusted expiration (stable items)
+     * Default: 600 seconds (10 minutes)
+     */
+    private int maxExpirationSeconds = 600;
+
+    /**
+     * Relative price change between successive records at which an item expires
+     * after exactly expirationSeconds; calmer items expire later, more volatile ones sooner
+     * Default: 0.02 (2%)
+     */
+    private double targetVolatility = 0.02;
+
+    /**
+     * EWMA smoothing factor of the volatility estimate (weight of the newest price change)
+     * Default: 0.3
+     */
+    private double volatilitySmoothing = 0.3;
+
+    /**
+     * How long an item is remembered in memory as having an open task, skipping
+     * the insert-if-absent statement for repeated listings of the same item
+     * Default: 60 seconds
+     */
+    private int openTaskCacheSeconds = 60;
+
+    /**
+     * How long the ingest path trusts a database check that found an item's history
+     * missing or expired, answering repeated listings of the item from memory
+     * Default: 10 seconds
+     */
+    private int staleCheckCacheSeconds = 10;
+
+    /**
+     * How long a worker owns claimed tasks before they can be claimed again
+     * Default: 300 seconds (5 minutes)
+     */
+    private int leaseSeconds = 300;
+
+    /**
+     * Maximum number of tasks a single claim can return
+     * Default: 100
+     */
+    private int maxClaimSize = 100;
+
+    /**
+     * Maximum number of results accepted by one bulk completion
+     * Default: 500
+     */
+    private int maxCompleteBatchSize = 500;
+
+    /**
+     * Gap after which the rolling summary of Steam listing prices starts over, and
+     * maximum age of the latest Steam listing for it to postpone a scrape
+     * Default: 300 seconds (5 minutes)
+     */
+    private int steamListingWindowSeconds = 300;
+
+    /**
+     * EWMA smoothing factor of the Steam listing price summary (weight of the newest listing)
+     * Default: 0.3
+     */
+    private double steamListingSmoothing = 0.3;
+
+    /**
+     * Relative gap between the Steam listing EWMA and the history average price under which
+     * live listings postpone the scrape of an expired history
+     * Default: 0.05 (5%)
+     */
+    private double steamListingPriceTolerance = 0.05;
+
+    /**
+     * Maximum age of a history kept alive by Steam listings; a scrape is always due past it
+     * 0 disables postponing
+     * Default: 1800 seconds (30 minutes)
+     */
+    private int steamListingMaxHistoryAgeSeconds = 1800;
+
+    /**
+     * Builds the expiration rule from the configured base, bounds and target volatility
+     *
+     * @return The history expiration policy
+     */
+    public HistoryExpirationPolicy toExpirationPolicy() {
+        return new HistoryExpirationPolicy(expirationSeconds, minExpirationSeconds,
+                maxExpirationSeconds, targetVolatility);
+    }
+
+    /**
+     * Builds the rule letting live Steam listings postpone the scrape of an expired history
+     *
+     * @return The Steam listing postpone policy
+     */
+    public SteamListingPostponePolicy toSteamListingPostponePolicy() {
+        return new SteamListingPostponePolicy(steamListingWindowSeconds, steamListingMaxHistoryAgeSeconds,
+                steamListingPriceTolerance);
+    }
 }
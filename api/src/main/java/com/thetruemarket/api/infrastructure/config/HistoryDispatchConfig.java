@@ -0,0 +1,113 @@
+package com.thetruemarket.api.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for prioritized history update dispatch
+ */
+@Configuration
+@ConfigurationProperties(prefix = "history.dispatch")
+@Getter
+@Setter
+public class HistoryDispatchConfig {
+    /**
+     * How history update tasks reach the scrapers
+     * HTTP: scrapers pull/claim tasks and post results over the REST API
+     * AMQP: tasks are published to the history.update.tasks queue and results are
+     * consumed from the history.update.results queue (the REST API stays available)
+     * Default: HTTP
+     */
+    private DispatchMode mode = DispatchMode.HTTP;
+
+    /**
+     * AMQP mode: maximum number of tasks waiting in the tasks queue; the dispatcher only
+     * claims and publishes more when the queue drains below it (broker backpressure)
+     * Default: 200
+     */
+    private int amqpMaxQueuedTasks = 200;
+
+    /**
+     * AMQP mode: maximum number of results consumed as one batch
+     * Default: 50
+     */
+    private int amqpResultBatchSize = 50;
+
+    /**
+     * AMQP mode: prefetch of the results consumer (unacknowledged results held by the API)
+     * Default: 100
+     */
+    private int amqpResultPrefetch = 100;
+
+    /**
+     * Maximum number of tasks handed out per budget interval by the whole cluster
+     * The window counter is shared through the job_state table, so set it to the scraping
+     * throughput whatever the number of replicas; 0 disables it
+     * Default: 0 (unlimited)
+     */
+    private int budgetPerInterval = 0;
+
+    /**
+     * Length of the budget interval in seconds
+     * Default: 60 seconds
+     */
+    private int budgetIntervalSeconds = 60;
+
+    /**
+     * Longest time a long-polling claim (POST /claim/wait) may be held open
+     * Default: 30 seconds
+     */
+    private int maxClaimWaitSeconds = 30;
+
+    /**
+     * Weight of the profit score (listing discount vs last Steam price)
+     * Default: 0.6
+     */
+    private double profitWeight = 0.6;
+
+    /**
+     * Weight of the listing count score
+     * Default: 0.15
+     */
+    private double listingWeight = 0.15;
+
+    /**
+     * Weight of the staleness score
+     * Default: 0.25
+     */
+    private double stalenessWeight = 0.25;
+
+    /**
+     * Net profit percentage at (or below) which the profit score is 0
+     * Default: -20.0
+     */
+    private double minProfitPercentage = -20.0;
+
+    /**
+     * Net profit percentage at (or above) which the profit score is 1
+     * Default: 10.0
+     */
+    private double targetProfitPercentage = 10.0;
+
+    /**
+     * Listing count at which the listing score saturates
+     * Default: 20
+     */
+    private int listingSaturation = 20;
+
+    /**
+     * History age in seconds at which the staleness score saturates
+     * Default: 3600 seconds (1 hour)
+     */
+    private int stalenessSaturationSeconds = 3600;
+
+    /**
+     * Transport used to hand tasks to the scrapers
+     */
+    public enum DispatchMode {
+        HTTP,
+        AMQP
+    }
+}
@@ -0,0 +1,54 @@
+package com.thetruemarket.api.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for steam_price_history partitioning, rollups and retention
+ */
+@Configuration
+@ConfigurationProperties(prefix = "history.retention")
+@Getter
+@Setter
+public class HistoryRetentionConfig {
+    /**
+     * Converts steam_price_history into a table range-partitioned by month on recorded_at
+     * (one-time migration on startup) and keeps future partitions created
+     * Default: true
+     */
+    private boolean partitioningEnabled = true;
+
+    /**
+     * Number of monthly partitions created ahead of the current month
+     * Default: 2
+     */
+    private int partitionsAhead = 2;
+
+    /**
+     * Months of raw history kept; older monthly partitions are dropped once rolled up
+     * 0 keeps raw history forever
+     * Default: 3
+     */
+    private int rawRetentionMonths = 3;
+
+    /**
+     * Days of hourly rollups kept (0 = forever)
+     * Default: 180
+     */
+    private int hourlyRetentionDays = 180;
+
+    /**
+     * Days of daily rollups kept (0 = forever)
+     * Default: 0
+     */
+    private int dailyRetentionDays = 0;
+
+    /**
+     * Maximum number of hours rolled up by one run, so catching up on a large
+     * backlog is spread over several runs
+     * Default: 168 (one week)
+     */
+    private int maxRollupHoursPerRun = 168;
+}
@@ -0,0 +1,38 @@
+package com.thetruemarket.api.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the cluster-wide scheduled job lock
+ */
+@Configuration
+@ConfigurationProperties(prefix = "jobs.lock")
+@Getter
+@Setter
+public class JobLockConfig {
+    /**
+     * Enables the database lease lock; disable only for a single-instance deployment
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Lease duration: a lock held by a crashed instance is released after it
+     * Must be longer than the slowest job run
+     * Default: 30 minutes
+     */
+    private Duration lockAtMostFor = Duration.ofMinutes(30);
+
+    /**
+     * Minimum time the lock stays held after a run starts, to absorb clock/schedule skew
+     * between replicas. Must be shorter than the interval of every job using it; jobs scheduled
+     * more often (DispatchHistoryTasksJob) pass their own value to ScheduledJobExecutor
+     * Default: 30 seconds
+     */
+    private Duration lockAtLeastFor = Duration.ofSeconds(30);
+}
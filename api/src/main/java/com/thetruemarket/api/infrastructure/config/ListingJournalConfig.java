@@ -0,0 +1,47 @@
+package com.thetruemarket.api.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the local listing journal
+ * When enabled, skin market messages are acknowledged once appended to the journal and
+ * written to the database asynchronously by ListingJournalDrainer
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ingest.journal")
+@Getter
+@Setter
+public class ListingJournalConfig {
+    /**
+     * Journals skin market messages before writing them to the database
+     * Default: false (messages are processed inside the RabbitMQ listener)
+     */
+    private boolean enabled = false;
+
+    /**
+     * Directory of the journal segments and checkpoint; must be on a persistent local disk
+     * Default: data/listing-journal
+     */
+    private String directory = "data/listing-journal";
+
+    /**
+     * Size of one memory-mapped segment file in megabytes
+     * Default: 64
+     */
+    private int segmentSizeMb = 64;
+
+    /**
+     * Maximum number of listings written to the database in one transaction
+     * Default: 500
+     */
+    private int drainBatchSize = 500;
+
+    /**
+     * Delay between two drains in milliseconds; also the retry delay while the database is down
+     * Default: 1000
+     */
+    private long drainIntervalMs = 1000;
+}
@@ -0,0 +1,53 @@
+package com.thetruemarket.api.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the optional PostgreSQL read replica
+ * Without a URL every query goes to the primary (spring.datasource.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica")
+@Getter
+@Setter
+public class ReplicaDataSourceConfig {
+    /**
+     * JDBC URL of the replica (e.g., jdbc:postgresql://localhost:5433/thetruemarket)
+     * Enables read-only transaction routing when set
+     * Default: none
+     */
+    private String url;
+
+    /**
+     * Replica user; defaults to spring.datasource.username when empty
+     */
+    private String username;
+
+    /**
+     * Replica password; defaults to spring.datasource.password when empty
+     */
+    private String password;
+
+    /**
+     * Maximum size of the replica connection pool
+     * Default: 10
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Lag behind the primary above which read-only transactions go back to it
+     * Default: 30 seconds
+     */
+    private Duration maxLag = Duration.ofSeconds(30);
+
+    /**
+     * Delay between two replica lag checks in milliseconds
+     * Default: 5000 (5 seconds)
+     */
+    private long lagCheckIntervalMs = 5000;
+}
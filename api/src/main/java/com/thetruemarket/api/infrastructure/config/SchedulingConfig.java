@@ -1,15 +1,55 @@
 package com.thetruemarket.api.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * Configuration to enable Spring scheduling for periodic tasks
  * Required for @Scheduled annotations to work
+ *
+ * Provides two schedulers instead of Spring's default single thread:
+ * - taskScheduler: shared pool for the regular jobs, so one slow job does not delay the others
+ * - longRunningJobScheduler: isolated pool for jobs that call external services
+ *   (select it with {@code @Scheduled(scheduler = SchedulingConfig.LONG_RUNNING_JOB_SCHEDULER)})
  */
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
-    // No additional configuration needed
-    // @EnableScheduling enables all @Scheduled methods
+    public static final String LONG_RUNNING_JOB_SCHEDULER = "longRunningJobScheduler";
+
+    private static final int AWAIT_TERMINATION_SECONDS = 30;
+
+    /**
+     * Default scheduler used by every @Scheduled method without an explicit scheduler
+     */
+    @Bean
+    @Primary
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${jobs.scheduler.pool-size:4}") int poolSize
+    ) {
+        return createScheduler(poolSize, "job-");
+    }
+
+    /**
+     * Isolated scheduler for long-running jobs
+     */
+    @Bean(name = LONG_RUNNING_JOB_SCHEDULER)
+    public ThreadPoolTaskScheduler longRunningJobScheduler(
+            @Value("${jobs.scheduler.long-running-pool-size:1}") int poolSize
+    ) {
+        return createScheduler(poolSize, "job-long-");
+    }
+
+    private ThreadPoolTaskScheduler createScheduler(int poolSize, String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        return scheduler;
+    }
 }
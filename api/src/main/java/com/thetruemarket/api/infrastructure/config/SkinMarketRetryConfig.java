@@ -0,0 +1,30 @@
+package com.thetruemarket.api.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Configuration properties for the delayed retries of skin market messages
+ */
+@Configuration
+@ConfigurationProperties(prefix = "skin.market.retry")
+@Getter
+@Setter
+public class SkinMarketRetryConfig {
+    /**
+     * Delay of each retry tier in milliseconds (one TTL queue per value)
+     * Retry N waits for the N-th delay, or the last one once the list is exhausted
+     * Default: 5 s, 30 s, 5 min, 30 min
+     */
+    private List<Long> delaysMs = List.of(5000L, 30000L, 300000L, 1800000L);
+
+    /**
+     * Retries of a message before it is sent to the dead letter queue
+     * Default: 6
+     */
+    private int maxAttempts = 6;
+}
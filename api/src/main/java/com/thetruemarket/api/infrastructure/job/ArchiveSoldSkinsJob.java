@@ -0,0 +1,45 @@
+package com.thetruemarket.api.infrastructure.job;
+
+import com.thetruemarket.api.application.usecase.ArchiveSoldSkinsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job moving old SOLD skins from skins to skins_archive
+ * Keeps the hot table (and every index the profit and staleness queries use)
+ * limited to live listings and recently sold ones
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(
+        name = "skin.archive.enabled",
+        havingValue = "true",
+        matchIfMissing = true // Enabled by default
+)
+public class ArchiveSoldSkinsJob {
+    private static final String JOB_NAME = "ArchiveSoldSkinsJob";
+
+    private final ArchiveSoldSkinsUseCase archiveSoldSkinsUseCase;
+    private final ScheduledJobExecutor scheduledJobExecutor;
+
+    /**
+     * Runs every hour (configurable) to archive old SOLD skins
+     */
+    @Scheduled(fixedRateString = "${skin.archive.interval-ms:3600000}")
+    public void archiveSoldSkins() {
+        scheduledJobExecutor.execute(JOB_NAME, this::run);
+    }
+
+    private int run() {
+        log.info("Starting ArchiveSoldSkinsJob");
+
+        int archivedCount = archiveSoldSkinsUseCase.execute();
+
+        log.info("ArchiveSoldSkinsJob completed: {} skins archived", archivedCount);
+        return archivedCount;
+    }
+}
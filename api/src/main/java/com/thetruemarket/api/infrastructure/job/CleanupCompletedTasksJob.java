@@ -1,61 +1,65 @@
 package com.thetruemarket.api.infrastructure.job;
 
-import com.thetruemarket.api.domain.model.HistoryUpdateTask;
 import com.thetruemarket.api.domain.repository.HistoryUpdateTaskRepository;
 import com.thetruemarket.api.domain.valueobject.TaskStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * Scheduled job to clean up completed history update tasks
- * Deletes tasks that have been completed for more than 24 hours
+ * Deletes tasks that have been completed for more than the retention period (default: 24 hours)
+ * Deletion is set-based and chunked, so no task is loaded into memory
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class CleanupCompletedTasksJob {
+  private static final String JOB_NAME = "CleanupCompletedTasksJob";
+
   private final HistoryUpdateTaskRepository historyUpdateTaskRepository;
+  private final ScheduledJobExecutor scheduledJobExecutor;
+
+  @Value("${task.cleanup.retention-hours:24}")
+  private int retentionHours;
 
-  private static final int RETENTION_HOURS = 24;
+  @Value("${task.cleanup.batch-size:5000}")
+  private int batchSize;
 
   /**
    * Runs every 30 minutes to clean up old completed tasks
    */
   @Scheduled(fixedRateString = "${task.cleanup.interval-ms:1800000}") // Default: 30 minutes
-  @Transactional
   public void cleanupCompletedTasks() {
-    log.info("Starting CleanupCompletedTasksJob");
-
-    try {
-      // Calculate the cutoff date (24 hours ago)
-      LocalDateTime cutoffDate = LocalDateTime.now().minusHours(RETENTION_HOURS);
-
-      log.debug("Looking for completed tasks finished before: {}", cutoffDate);
-
-      // Find tasks to delete
-      List<HistoryUpdateTask> tasksToDelete = historyUpdateTaskRepository
-          .findByStatusAndFinishedAtBefore(TaskStatus.COMPLETED, cutoffDate);
+    scheduledJobExecutor.execute(JOB_NAME, this::run);
+  }
 
-      if (tasksToDelete.isEmpty()) {
-        log.debug("No completed tasks found older than {} hours", RETENTION_HOURS);
-        return;
-      }
+  private int run() {
+    log.info("Starting CleanupCompletedTasksJob");
 
-      log.info("Found {} completed tasks older than {} hours", tasksToDelete.size(), RETENTION_HOURS);
+    LocalDateTime cutoffDate = LocalDateTime.now().minusHours(retentionHours);
 
-      // Delete tasks
-      historyUpdateTaskRepository.deleteByStatusAndFinishedAtBefore(TaskStatus.COMPLETED, cutoffDate);
+    log.debug("Deleting completed tasks finished before: {}", cutoffDate);
 
-      log.info("CleanupCompletedTasksJob completed: {} tasks deleted", tasksToDelete.size());
+    // Each chunk commits on its own; a short chunk means nothing is left
+    int deletedCount = 0;
+    int deleted;
+    do {
+      deleted = historyUpdateTaskRepository
+          .deleteChunkByStatusAndFinishedAtBefore(TaskStatus.COMPLETED, cutoffDate, batchSize);
+      deletedCount += deleted;
+    } while (deleted >= batchSize);
 
-    } catch (Exception e) {
-      log.error("Error in CleanupCompletedTasksJob: {}", e.getMessage(), e);
+    if (deletedCount == 0) {
+      log.debug("No completed tasks found older than {} hours", retentionHours);
+      return 0;
     }
+
+    log.info("CleanupCompletedTasksJob completed: {} tasks deleted", deletedCount);
+    return deletedCount;
   }
 }
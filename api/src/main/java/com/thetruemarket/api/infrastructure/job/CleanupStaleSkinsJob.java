@@ -15,7 +15,8 @@ import org.springframework.stereotype.Component;
  * - Every time a bot sees a skin, it sends a message → lastSeenAt is updated
  * - This job periodically checks for AVAILABLE skins without recent heartbeat
  * - Skins not seen for X hours (default: 2h) are marked as SOLD
- * - Sold skins are kept in database for historical analysis, not deleted
+ * - Sold skins are kept for historical analysis, not deleted (ArchiveSoldSkinsJob later
+ *   moves them to skins_archive)
  */
 @Component
 @RequiredArgsConstructor
@@ -26,7 +27,10 @@ import org.springframework.stereotype.Component;
         matchIfMissing = true // Enabled by default
 )
 public class CleanupStaleSkinsJob {
+    private static final String JOB_NAME = "CleanupStaleSkinsJob";
+
     private final MarkStaleSkinAsSoldUseCase markStaleSkinAsSoldUseCase;
+    private final ScheduledJobExecutor scheduledJobExecutor;
 
     /**
      * Runs every 30 minutes (configurable) to mark stale skins as sold
@@ -34,15 +38,15 @@ public class CleanupStaleSkinsJob {
      */
     @Scheduled(fixedRateString = "${skin.cleanup.interval-ms:1800000}")
     public void cleanupStaleSkins() {
-        log.info("Starting CleanupStaleSkinsJob");
+        scheduledJobExecutor.execute(JOB_NAME, this::run);
+    }
 
-        try {
-            int markedCount = markStaleSkinAsSoldUseCase.execute();
+    private int run() {
+        log.info("Starting CleanupStaleSkinsJob");
 
-            log.info("CleanupStaleSkinsJob completed: {} skins marked as SOLD", markedCount);
+        int markedCount = markStaleSkinAsSoldUseCase.execute();
 
-        } catch (Exception e) {
-            log.error("Error in CleanupStaleSkinsJob: {}", e.getMessage(), e);
-        }
+        log.info("CleanupStaleSkinsJob completed: {} skins marked as SOLD", markedCount);
+        return markedCount;
     }
 }
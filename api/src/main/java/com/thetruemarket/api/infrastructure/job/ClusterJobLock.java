@@ -0,0 +1,90 @@
+package com.thetruemarket.api.infrastructure.job;
+
+import com.thetruemarket.api.domain.repository.JobStateRepository;
+import com.thetruemarket.api.infrastructure.config.JobLockConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Runs scheduled jobs at most once per cluster at a time
+ *
+ * Every replica still fires its own @Scheduled trigger; the first one to take the
+ * database lease (job_state row) runs the job, the others skip that tick.
+ * A lease is released at the end of the run (but never before lockAtLeastFor) and
+ * expires on its own after lockAtMostFor if the holder dies.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterJobLock {
+    private final JobStateRepository jobStateRepository;
+    private final JobLockConfig jobLockConfig;
+
+    private final String instanceId = resolveInstanceId();
+
+    /**
+     * Runs the task if this instance acquires the job lock
+     *
+     * @param jobName Unique job name
+     * @param task    The job body
+     * @return true if the task ran here, false if another instance holds the lock
+     */
+    public boolean runExclusively(String jobName, Runnable task) {
+        return runExclusively(jobName, jobLockConfig.getLockAtLeastFor(), task);
+    }
+
+    /**
+     * Runs the task if this instance acquires the job lock, holding it at least for the given
+     * duration instead of the configured default (for jobs scheduled more often than it)
+     *
+     * @param jobName        Unique job name
+     * @param lockAtLeastFor Minimum time the lock stays held after the run starts
+     * @param task           The job body
+     * @return true if the task ran here, false if another instance holds the lock
+     */
+    public boolean runExclusively(String jobName, Duration lockAtLeastFor, Runnable task) {
+        if (!jobLockConfig.isEnabled()) {
+            task.run();
+            return true;
+        }
+
+        if (!jobStateRepository.tryLock(jobName, instanceId, jobLockConfig.getLockAtMostFor())) {
+            log.debug("Skipping {}: lock held by another instance", jobName);
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            try {
+                jobStateRepository.unlock(jobName, instanceId, lockAtLeastFor);
+            } catch (Exception e) {
+                // The lease expires on its own after lockAtMostFor
+                log.warn("Could not release lock for {}: {}", jobName, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the identifier this instance uses as lock owner
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    private static String resolveInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown-host";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
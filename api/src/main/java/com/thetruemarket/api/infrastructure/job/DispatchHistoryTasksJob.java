@@ -0,0 +1,48 @@
+package com.thetruemarket.api.infrastructure.job;
+
+import com.thetruemarket.api.infrastructure.messaging.publisher.AmqpHistoryTaskDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Scheduled job that keeps the AMQP tasks queue topped up (AMQP dispatch mode only)
+ * Catches what task-creation events cannot: tasks whose lease expired without a result,
+ * queue space freed by the scrapers, and dispatch budget renewed by a new interval
+ *
+ * Runs more often than the default jobs.lock.lock-at-least-for, so it holds the cluster
+ * lock for half of its own interval instead (otherwise most ticks would find it held)
+ */
+@Component
+@ConditionalOnProperty(prefix = "history.dispatch", name = "mode", havingValue = "amqp")
+@RequiredArgsConstructor
+@Slf4j
+public class DispatchHistoryTasksJob {
+    private static final String JOB_NAME = "DispatchHistoryTasksJob";
+
+    private final AmqpHistoryTaskDispatcher amqpHistoryTaskDispatcher;
+    private final ScheduledJobExecutor scheduledJobExecutor;
+
+    @Value("${history.dispatch.amqp-dispatch-interval-ms:10000}")
+    private long dispatchIntervalMs;
+
+    /**
+     * Runs every 10 seconds (configurable) to publish claimable tasks
+     */
+    @Scheduled(fixedDelayString = "${history.dispatch.amqp-dispatch-interval-ms:10000}") // Default: 10 seconds
+    public void dispatchHistoryTasks() {
+        scheduledJobExecutor.execute(JOB_NAME, Duration.ofMillis(dispatchIntervalMs / 2), this::run);
+    }
+
+    private int run() {
+        int published = amqpHistoryTaskDispatcher.dispatch();
+
+        log.debug("DispatchHistoryTasksJob completed: {} tasks published", published);
+        return published;
+    }
+}
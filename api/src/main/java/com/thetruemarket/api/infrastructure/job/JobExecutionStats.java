@@ -0,0 +1,117 @@
+package com.thetruemarket.api.infrastructure.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Execution telemetry of one scheduled job on this instance
+ * Updated by ScheduledJobExecutor; read through {@link #snapshot()}
+ */
+public class JobExecutionStats {
+    private final String jobName;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private long runCount;
+    private long failureCount;
+    private long skippedLockedCount;
+    private long overlapCount;
+    private long totalItemsProcessed;
+    private Integer lastItemsProcessed;
+    private Long lastDurationMs;
+    private long maxDurationMs;
+    private Long lastStartIntervalMs;
+    private LocalDateTime lastStartedAt;
+    private LocalDateTime lastFinishedAt;
+    private LocalDateTime lastSuccessAt;
+    private LocalDateTime lastFailureAt;
+    private String lastFailureMessage;
+
+    public JobExecutionStats(String jobName) {
+        this.jobName = jobName;
+    }
+
+    /**
+     * Marks the job as running on this instance
+     *
+     * @return false if a previous run is still in progress (the overlap is counted)
+     */
+    boolean tryStart() {
+        if (!running.compareAndSet(false, true)) {
+            synchronized (this) {
+                overlapCount++;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    synchronized void recordStarted(LocalDateTime startedAt) {
+        if (lastStartedAt != null) {
+            lastStartIntervalMs = Duration.between(lastStartedAt, startedAt).toMillis();
+        }
+        lastStartedAt = startedAt;
+    }
+
+    synchronized void recordSuccess(int itemsProcessed, long durationMs, LocalDateTime finishedAt) {
+        runCount++;
+        lastItemsProcessed = itemsProcessed;
+        totalItemsProcessed += itemsProcessed;
+        recordDuration(durationMs, finishedAt);
+        lastSuccessAt = finishedAt;
+    }
+
+    synchronized void recordFailure(String message, long durationMs, LocalDateTime finishedAt) {
+        runCount++;
+        failureCount++;
+        recordDuration(durationMs, finishedAt);
+        lastFailureAt = finishedAt;
+        lastFailureMessage = message;
+    }
+
+    synchronized void recordSkippedLocked() {
+        skippedLockedCount++;
+    }
+
+    void finish() {
+        running.set(false);
+    }
+
+    private void recordDuration(long durationMs, LocalDateTime finishedAt) {
+        lastDurationMs = durationMs;
+        maxDurationMs = Math.max(maxDurationMs, durationMs);
+        lastFinishedAt = finishedAt;
+    }
+
+    /**
+     * Returns a consistent copy of the current values
+     */
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(jobName, running.get(), runCount, failureCount, skippedLockedCount, overlapCount,
+                totalItemsProcessed, lastItemsProcessed, lastDurationMs, maxDurationMs, lastStartIntervalMs,
+                lastStartedAt, lastFinishedAt, lastSuccessAt, lastFailureAt, lastFailureMessage);
+    }
+
+    /**
+     * Immutable view of the job telemetry
+     */
+    public record Snapshot(
+            String jobName,
+            boolean running,
+            long runCount,
+            long failureCount,
+            long skippedLockedCount,
+            long overlapCount,
+            long totalItemsProcessed,
+            Integer lastItemsProcessed,
+            Long lastDurationMs,
+            long maxDurationMs,
+            Long lastStartIntervalMs,
+            LocalDateTime lastStartedAt,
+            LocalDateTime lastFinishedAt,
+            LocalDateTime lastSuccessAt,
+            LocalDateTime lastFailureAt,
+            String lastFailureMessage
+    ) {
+    }
+}
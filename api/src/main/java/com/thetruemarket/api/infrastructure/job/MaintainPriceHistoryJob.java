@@ -0,0 +1,37 @@
+package com.thetruemarket.api.infrastructure.job;
+
+import com.thetruemarket.api.application.usecase.MaintainPriceHistoryUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job for the storage lifecycle of Steam price history
+ * Keeps monthly partitions ahead, rolls raw history up into hourly/daily buckets and
+ * applies the retention of each tier (see history.retention.*)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MaintainPriceHistoryJob {
+    private static final String JOB_NAME = "MaintainPriceHistoryJob";
+
+    private final MaintainPriceHistoryUseCase maintainPriceHistoryUseCase;
+    private final ScheduledJobExecutor scheduledJobExecutor;
+
+    /**
+     * Runs every hour (configurable)
+     */
+    @Scheduled(fixedRateString = "${history.retention.interval-ms:3600000}") // Default: 1 hour
+    public void maintainPriceHistory() {
+        scheduledJobExecutor.execute(JOB_NAME, this::run);
+    }
+
+    private int run() {
+        int processed = maintainPriceHistoryUseCase.execute(JOB_NAME);
+
+        log.info("MaintainPriceHistoryJob completed: {} rollup buckets, partitions and expired rows processed", processed);
+        return processed;
+    }
+}
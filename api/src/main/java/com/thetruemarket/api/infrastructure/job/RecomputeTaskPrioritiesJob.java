@@ -0,0 +1,37 @@
+package com.thetruemarket.api.infrastructure.job;
+
+import com.thetruemarket.api.application.usecase.RecomputeTaskPrioritiesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job to keep history update task priorities current
+ * Listing prices, listing counts and history age change between task creation and
+ * dispatch, so open tasks are rescored periodically
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecomputeTaskPrioritiesJob {
+    private static final String JOB_NAME = "RecomputeTaskPrioritiesJob";
+
+    private final RecomputeTaskPrioritiesUseCase recomputeTaskPrioritiesUseCase;
+    private final ScheduledJobExecutor scheduledJobExecutor;
+
+    /**
+     * Runs every minute (configurable) to rescore open tasks
+     */
+    @Scheduled(fixedRateString = "${history.dispatch.recompute-interval-ms:60000}") // Default: 1 minute
+    public void recomputeTaskPriorities() {
+        scheduledJobExecutor.execute(JOB_NAME, this::run);
+    }
+
+    private int run() {
+        int rescored = recomputeTaskPrioritiesUseCase.execute();
+
+        log.debug("RecomputeTaskPrioritiesJob completed: {} tasks rescored", rescored);
+        return rescored;
+    }
+}
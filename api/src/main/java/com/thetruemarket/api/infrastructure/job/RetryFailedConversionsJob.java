@@ -8,6 +8,7 @@ import com.thetruemarket.api.domain.model.SkinMarketData;
 import com.thetruemarket.api.domain.repository.FailedConversionTaskRepository;
 import com.thetruemarket.api.domain.service.CurrencyConversionService;
 import com.thetruemarket.api.application.usecase.SaveSkinUseCase;
+import com.thetruemarket.api.infrastructure.config.SchedulingConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,15 +21,19 @@ import java.util.List;
 /**
  * Scheduled job to retry failed currency conversions
  * Runs periodically to attempt conversion of previously failed tasks
+ * Runs on its own scheduler: it calls the exchange rate API per task and can be slow
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RetryFailedConversionsJob {
+    private static final String JOB_NAME = "RetryFailedConversionsJob";
+
     private final FailedConversionTaskRepository failedConversionTaskRepository;
     private final CurrencyConversionService currencyConversionService;
     private final SaveSkinUseCase saveSkinUseCase;
     private final ObjectMapper objectMapper;
+    private final ScheduledJobExecutor scheduledJobExecutor;
 
     @Value("${exchange-rate.retry.max-attempts:10}")
     private int maxAttempts;
@@ -39,60 +44,61 @@ public class RetryFailedConversionsJob {
     /**
      * Runs every hour to retry failed conversions
      */
-    @Scheduled(fixedRateString = "${exchange-rate.retry.interval-ms:3600000}") // Default: 1 hour
+    @Scheduled(fixedRateString = "${exchange-rate.retry.interval-ms:3600000}", // Default: 1 hour
+            scheduler = SchedulingConfig.LONG_RUNNING_JOB_SCHEDULER)
     public void retryFailedConversions() {
+        scheduledJobExecutor.execute(JOB_NAME, this::run);
+    }
+
+    private int run() {
         log.info("Starting RetryFailedConversionsJob");
 
-        try {
-            // Find all tasks ready for retry
-            List<FailedConversionTask> tasksToRetry = failedConversionTaskRepository
-                    .findTasksReadyForRetry(LocalDateTime.now());
+        // Find all tasks ready for retry
+        List<FailedConversionTask> tasksToRetry = failedConversionTaskRepository
+                .findTasksReadyForRetry(LocalDateTime.now());
 
-            if (tasksToRetry.isEmpty()) {
-                log.debug("No failed conversion tasks ready for retry");
-                return;
-            }
+        if (tasksToRetry.isEmpty()) {
+            log.debug("No failed conversion tasks ready for retry");
+            return 0;
+        }
 
-            log.info("Found {} tasks ready for retry", tasksToRetry.size());
+        log.info("Found {} tasks ready for retry", tasksToRetry.size());
 
-            int successCount = 0;
-            int failCount = 0;
-            int permanentlyFailedCount = 0;
+        int successCount = 0;
+        int failCount = 0;
+        int permanentlyFailedCount = 0;
 
-            for (FailedConversionTask task : tasksToRetry) {
-                try {
-                    boolean success = retryConversion(task);
-                    if (success) {
-                        successCount++;
-                        // Delete the task since it succeeded
-                        failedConversionTaskRepository.deleteById(task.getId());
-                        log.info("Successfully processed and deleted task {}", task.getId());
+        for (FailedConversionTask task : tasksToRetry) {
+            try {
+                boolean success = retryConversion(task);
+                if (success) {
+                    successCount++;
+                    // Delete the task since it succeeded
+                    failedConversionTaskRepository.deleteById(task.getId());
+                    log.info("Successfully processed and deleted task {}", task.getId());
+                } else {
+                    // Update task with new attempt info
+                    failedConversionTaskRepository.save(task);
+
+                    if (task.getPermanentlyFailed()) {
+                        permanentlyFailedCount++;
+                        log.error("Task {} marked as permanently failed after {} attempts",
+                                task.getId(), task.getAttemptCount());
                     } else {
-                        // Update task with new attempt info
-                        failedConversionTaskRepository.save(task);
-
-                        if (task.getPermanentlyFailed()) {
-                            permanentlyFailedCount++;
-                            log.error("Task {} marked as permanently failed after {} attempts",
-                                    task.getId(), task.getAttemptCount());
-                        } else {
-                            failCount++;
-                            log.warn("Task {} failed, will retry at {}",
-                                    task.getId(), task.getNextRetryAt());
-                        }
+                        failCount++;
+                        log.warn("Task {} failed, will retry at {}",
+                                task.getId(), task.getNextRetryAt());
                     }
-                } catch (Exception e) {
-                    log.error("Error processing task {}: {}", task.getId(), e.getMessage(), e);
-                    failCount++;
                 }
+            } catch (Exception e) {
+                log.error("Error processing task {}: {}", task.getId(), e.getMessage(), e);
+                failCount++;
             }
-
-            log.info("RetryFailedConversionsJob completed: {} succeeded, {} failed, {} permanently failed",
-                    successCount, failCount, permanentlyFailedCount);
-
-        } catch (Exception e) {
-            log.error("Error in RetryFailedConversionsJob: {}", e.getMessage(), e);
         }
+
+        log.info("RetryFailedConversionsJob completed: {} succeeded, {} failed, {} permanently failed",
+                successCount, failCount, permanentlyFailedCount);
+        return tasksToRetry.size();
     }
 
     /**
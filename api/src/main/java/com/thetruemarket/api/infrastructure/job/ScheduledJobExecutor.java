@@ -0,0 +1,95 @@
+package com.thetruemarket.api.infrastructure.job;
+
+import com.thetruemarket.api.infrastructure.config.JobLockConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runs scheduled job bodies with the cluster lock and records their telemetry
+ *
+ * For every tick it:
+ * - Skips (and counts an overlap) if the previous run is still in progress on this instance
+ * - Skips (and counts it) if another instance holds the cluster lock (see ClusterJobLock)
+ * - Otherwise runs the body and records duration, items processed and success/failure
+ *
+ * Job bodies return the number of items they processed and may throw: the failure
+ * is logged and recorded here, so the scheduler thread keeps running.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledJobExecutor {
+    private final ClusterJobLock clusterJobLock;
+    private final JobLockConfig jobLockConfig;
+
+    private final ConcurrentMap<String, JobExecutionStats> statsByJob = new ConcurrentHashMap<>();
+
+    /**
+     * Executes one tick of a scheduled job
+     *
+     * @param jobName Unique job name
+     * @param job     The job body, returning the number of items processed
+     */
+    public void execute(String jobName, IntSupplier job) {
+        execute(jobName, jobLockConfig.getLockAtLeastFor(), job);
+    }
+
+    /**
+     * Executes one tick of a scheduled job whose interval is shorter than jobs.lock.lock-at-least-for
+     *
+     * @param jobName        Unique job name
+     * @param lockAtLeastFor Minimum time the cluster lock stays held; must be shorter than the job interval
+     * @param job            The job body, returning the number of items processed
+     */
+    public void execute(String jobName, Duration lockAtLeastFor, IntSupplier job) {
+        JobExecutionStats stats = statsByJob.computeIfAbsent(jobName, JobExecutionStats::new);
+
+        if (!stats.tryStart()) {
+            log.warn("Skipping {}: previous run still in progress", jobName);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            AtomicInteger itemsProcessed = new AtomicInteger();
+
+            boolean ran = clusterJobLock.runExclusively(jobName, lockAtLeastFor, () -> {
+                stats.recordStarted(LocalDateTime.now());
+                itemsProcessed.set(job.getAsInt());
+            });
+
+            if (ran) {
+                stats.recordSuccess(itemsProcessed.get(), System.currentTimeMillis() - start, LocalDateTime.now());
+            } else {
+                stats.recordSkippedLocked();
+            }
+
+        } catch (Exception e) {
+            stats.recordFailure(e.getMessage(), System.currentTimeMillis() - start, LocalDateTime.now());
+            log.error("Error in {}: {}", jobName, e.getMessage(), e);
+        } finally {
+            stats.finish();
+        }
+    }
+
+    /**
+     * Returns the telemetry of every job that has ticked at least once, ordered by name
+     */
+    public List<JobExecutionStats.Snapshot> getStats() {
+        return statsByJob.values().stream()
+                .map(JobExecutionStats::snapshot)
+                .sorted(Comparator.comparing(JobExecutionStats.Snapshot::jobName))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,106 @@
+package com.thetruemarket.api.infrastructure.messaging.config;
+
+import com.thetruemarket.api.infrastructure.config.HistoryDispatchConfig;
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RabbitMQ configuration for dispatching history update tasks over AMQP.
+ * Only active with history.dispatch.mode=AMQP.
+ *
+ * Exchange: history.update (Direct)
+ * Queues:
+ * - history.update.tasks   (API -> scrapers, routing key "task")
+ * - history.update.results (scrapers -> API, routing key "result")
+ *
+ * Scrapers consume tasks with a prefetch matching their concurrency (flow control)
+ * and acknowledge a task only after publishing its result.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "history.dispatch", name = "mode", havingValue = "amqp")
+public class HistoryTaskAmqpConfig {
+
+  public static final String EXCHANGE_NAME = "history.update";
+
+  public static final String TASKS_QUEUE_NAME = "history.update.tasks";
+  public static final String RESULTS_QUEUE_NAME = "history.update.results";
+
+  public static final String TASKS_ROUTING_KEY = "task";
+  public static final String RESULTS_ROUTING_KEY = "result";
+
+  public static final String RESULTS_CONTAINER_FACTORY = "historyResultsContainerFactory";
+
+  /**
+   * Declares the Direct Exchange shared by tasks and results.
+   */
+  @Bean
+  public DirectExchange historyUpdateExchange() {
+    return ExchangeBuilder
+        .directExchange(EXCHANGE_NAME)
+        .durable(true)
+        .build();
+  }
+
+  /**
+   * Declares the work queue read by the scrapers.
+   */
+  @Bean
+  public Queue historyUpdateTasksQueue() {
+    return QueueBuilder
+        .durable(TASKS_QUEUE_NAME)
+        .build();
+  }
+
+  /**
+   * Declares the queue receiving scraped price history.
+   */
+  @Bean
+  public Queue historyUpdateResultsQueue() {
+    return QueueBuilder
+        .durable(RESULTS_QUEUE_NAME)
+        .build();
+  }
+
+  @Bean
+  public Binding bindingHistoryUpdateTasks(Queue historyUpdateTasksQueue, DirectExchange historyUpdateExchange) {
+    return BindingBuilder
+        .bind(historyUpdateTasksQueue)
+        .to(historyUpdateExchange)
+        .with(TASKS_ROUTING_KEY);
+  }
+
+  @Bean
+  public Binding bindingHistoryUpdateResults(Queue historyUpdateResultsQueue, DirectExchange historyUpdateExchange) {
+    return BindingBuilder
+        .bind(historyUpdateResultsQueue)
+        .to(historyUpdateExchange)
+        .with(RESULTS_ROUTING_KEY);
+  }
+
+  /**
+   * Listener container factory delivering results in batches.
+   * Up to amqp-result-batch-size messages (or whatever arrived within one second)
+   * are handed to the listener as one List; prefetch bounds unacknowledged results.
+   */
+  @Bean(RESULTS_CONTAINER_FACTORY)
+  public SimpleRabbitListenerContainerFactory historyResultsContainerFactory(
+      ConnectionFactory connectionFactory,
+      MessageConverter jsonMessageConverter,
+      HistoryDispatchConfig historyDispatchConfig) {
+    SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    factory.setConnectionFactory(connectionFactory);
+    factory.setMessageConverter(jsonMessageConverter);
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(historyDispatchConfig.getAmqpResultBatchSize());
+    factory.setReceiveTimeout(1000L);
+    factory.setPrefetchCount(Math.max(historyDispatchConfig.getAmqpResultPrefetch(),
+        historyDispatchConfig.getAmqpResultBatchSize()));
+    return factory;
+  }
+}
@@ -0,0 +1,55 @@
+package com.thetruemarket.api.infrastructure.messaging.config;
+
+import org.springframework.amqp.core.*;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+/**
+ * RabbitMQ configuration announcing history update task creation to every API instance.
+ * Long-polling claim requests wait on the instance that received them (HistoryTaskClaimWaiters),
+ * while tasks are created on any instance, including the cluster-locked stale scan.
+ *
+ * Exchange: history.update.created (Fanout)
+ * Queue: one server-named, exclusive, auto-delete queue per instance, removed with its connection
+ *
+ * Messages carry the number of created tasks and the x-origin-instance header; an instance
+ * ignores its own announcements, since it already woke its waiters locally.
+ */
+@Configuration
+public class HistoryTaskBroadcastConfig {
+
+  public static final String EXCHANGE_NAME = "history.update.created";
+
+  public static final String ORIGIN_HEADER = "x-origin-instance";
+
+  // Identifies this instance in the x-origin-instance header
+  public static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+  /**
+   * Declares the Fanout Exchange copying each announcement to every instance queue.
+   */
+  @Bean
+  public FanoutExchange historyTasksCreatedExchange() {
+    return ExchangeBuilder
+        .fanoutExchange(EXCHANGE_NAME)
+        .durable(true)
+        .build();
+  }
+
+  /**
+   * Declares the queue of this instance (announcements made while it is down are not needed).
+   */
+  @Bean
+  public Queue historyTasksCreatedQueue() {
+    return new AnonymousQueue();
+  }
+
+  @Bean
+  public Binding bindingHistoryTasksCreated(Queue historyTasksCreatedQueue, FanoutExchange historyTasksCreatedExchange) {
+    return BindingBuilder
+        .bind(historyTasksCreatedQueue)
+        .to(historyTasksCreatedExchange);
+  }
+}
@@ -1,5 +1,6 @@
 package com.thetruemarket.api.infrastructure.messaging.config;
 
+import com.thetruemarket.api.infrastructure.config.SkinMarketRetryConfig;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -8,6 +9,10 @@ import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * RabbitMQ configuration for CS2 skin market data processing.
  * Implements a Topic Exchange architecture with routing keys for different
@@ -19,6 +24,13 @@ import org.springframework.context.annotation.Configuration;
  * - skin.market.bitskins
  * - skin.market.dashskins
  * - skin.market.* (wildcard for all sources)
+ *
+ * Failed messages (see SkinMarketFailureHandler):
+ * - skin.market.data.retry (Headers): routes a retry to the TTL queue of its delay
+ *   (skin.market.queue.retry.<delay ms>), which dead-letters it back to skin.market.data
+ *   with its original routing key once the delay has passed
+ * - skin.market.data.dlx (Topic): poison messages and exhausted retries, stored in
+ *   skin.market.queue.dlq
  */
 @Configuration
 public class RabbitMQConfig {
@@ -35,6 +47,15 @@ public class RabbitMQConfig {
   public static final String ROUTING_KEY_DASHSKINS = "skin.market.dashskins";
   public static final String ROUTING_KEY_ALL = "skin.market.*";
 
+  // Failure handling
+  public static final String DEAD_LETTER_EXCHANGE_NAME = TOPIC_EXCHANGE_NAME + ".dlx";
+  public static final String RETRY_EXCHANGE_NAME = TOPIC_EXCHANGE_NAME + ".retry";
+  public static final String RETRY_QUEUE_PREFIX = QUEUE_NAME + ".retry.";
+
+  // Headers: retry count carried by the message, delay tier matched by the retry exchange
+  public static final String RETRY_ATTEMPT_HEADER = "x-retry-attempt";
+  public static final String RETRY_DELAY_HEADER = "retry-delay-ms";
+
   /**
    * Declares the Topic Exchange for skin market data.
    * Topic exchanges route messages to queues based on routing key patterns.
@@ -55,7 +76,7 @@ public class RabbitMQConfig {
   public Queue skinMarketQueue() {
     return QueueBuilder
         .durable(QUEUE_NAME)
-        .withArgument("x-dead-letter-exchange", TOPIC_EXCHANGE_NAME + ".dlx")
+        .withArgument("x-dead-letter-exchange", DEAD_LETTER_EXCHANGE_NAME)
         .withArgument("x-message-ttl", 86400000) // 24 hours
         .build();
   }
@@ -79,7 +100,7 @@ public class RabbitMQConfig {
   @Bean
   public TopicExchange deadLetterExchange() {
     return ExchangeBuilder
-        .topicExchange(TOPIC_EXCHANGE_NAME + ".dlx")
+        .topicExchange(DEAD_LETTER_EXCHANGE_NAME)
         .durable(true)
         .build();
   }
@@ -105,6 +126,48 @@ public class RabbitMQConfig {
         .with(ROUTING_KEY_ALL);
   }
 
+  /**
+   * Declares the retry exchange and one delay queue per configured retry delay.
+   * A queue holds its messages for its TTL, then dead-letters them to the main
+   * exchange; without a dead-letter routing key, the original routing key is kept.
+   * Queue names include the delay, so changing the delays declares new queues
+   * instead of conflicting with the arguments of existing ones.
+   */
+  @Bean
+  public Declarables skinMarketRetryTopology(SkinMarketRetryConfig retryConfig) {
+    HeadersExchange retryExchange = ExchangeBuilder
+        .headersExchange(RETRY_EXCHANGE_NAME)
+        .durable(true)
+        .build();
+
+    List<Declarable> declarables = new ArrayList<>();
+    declarables.add(retryExchange);
+
+    for (Long delayMs : retryConfig.getDelaysMs().stream().distinct().toList()) {
+      Queue retryQueue = QueueBuilder
+          .durable(retryQueueName(delayMs))
+          .withArgument("x-message-ttl", delayMs)
+          .withArgument("x-dead-letter-exchange", TOPIC_EXCHANGE_NAME)
+          .build();
+
+      declarables.add(retryQueue);
+      declarables.add(BindingBuilder
+          .bind(retryQueue)
+          .to(retryExchange)
+          .whereAll(Map.of(RETRY_DELAY_HEADER, String.valueOf(delayMs)))
+          .match());
+    }
+
+    return new Declarables(declarables);
+  }
+
+  /**
+   * Name of the delay queue of a retry delay.
+   */
+  private static String retryQueueName(long delayMs) {
+    return RETRY_QUEUE_PREFIX + delayMs;
+  }
+
   /**
    * Configures JSON message converter for serializing/deserializing messages.
    * Uses Jackson for JSON processing.
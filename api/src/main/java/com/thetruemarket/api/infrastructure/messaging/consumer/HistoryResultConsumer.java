@@ -0,0 +1,57 @@
+package com.thetruemarket.api.infrastructure.messaging.consumer;
+
+import com.thetruemarket.api.application.usecase.BulkCompleteHistoryUpdateTasksUseCase;
+import com.thetruemarket.api.domain.model.HistoryCompletionOutcome;
+import com.thetruemarket.api.infrastructure.messaging.config.HistoryTaskAmqpConfig;
+import com.thetruemarket.api.infrastructure.messaging.dto.HistoryResultMessageDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * RabbitMQ consumer for scraped price history (AMQP dispatch mode).
+ * Receives results in batches from the history.update.results queue and completes
+ * the corresponding history update tasks.
+ * Part of the Infrastructure layer implementing message-driven architecture.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "history.dispatch", name = "mode", havingValue = "amqp")
+@RequiredArgsConstructor
+public class HistoryResultConsumer {
+  private final BulkCompleteHistoryUpdateTasksUseCase bulkCompleteHistoryUpdateTasksUseCase;
+
+  /**
+   * Completes a batch of tasks in one transaction (see BulkCompleteHistoryUpdateTasksUseCase).
+   * Invalid results (unknown task, name/wear mismatch) are logged and dropped since
+   * redelivering them cannot succeed; any other error fails the batch so it is redelivered.
+   *
+   * @param results The batch of results
+   */
+  @RabbitListener(queues = HistoryTaskAmqpConfig.RESULTS_QUEUE_NAME,
+      containerFactory = HistoryTaskAmqpConfig.RESULTS_CONTAINER_FACTORY)
+  public void consumeResults(List<HistoryResultMessageDTO> results) {
+    log.debug("Received batch of {} history results", results.size());
+
+    List<HistoryCompletionOutcome> outcomes = bulkCompleteHistoryUpdateTasksUseCase.execute(results.stream()
+        .map(HistoryResultMessageDTO::toDomain)
+        .collect(Collectors.toList()));
+
+    int completed = 0;
+    for (HistoryCompletionOutcome outcome : outcomes) {
+      if (outcome.isCompleted()) {
+        completed++;
+      } else {
+        log.error("Dropping invalid history result for task {}: {}", outcome.getTaskId(), outcome.getError());
+      }
+    }
+
+    log.info("Completed {}/{} history update tasks from {}", completed, results.size(),
+        HistoryTaskAmqpConfig.RESULTS_QUEUE_NAME);
+  }
+}
@@ -0,0 +1,37 @@
+package com.thetruemarket.api.infrastructure.messaging.consumer;
+
+import com.thetruemarket.api.infrastructure.messaging.config.HistoryTaskBroadcastConfig;
+import com.thetruemarket.api.infrastructure.web.longpoll.HistoryTaskClaimWaiters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+/**
+ * RabbitMQ consumer for task creations announced by the other API instances.
+ * Reads this instance's queue bound to the history.update.created fanout and wakes the
+ * local long-polling claim requests; the instance's own announcements are skipped.
+ * Part of the Infrastructure layer implementing message-driven architecture.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryTasksCreatedConsumer {
+  private final HistoryTaskClaimWaiters claimWaiters;
+
+  /**
+   * @param createdCount Number of tasks created on the announcing instance
+   * @param origin       Instance that created them
+   */
+  @RabbitListener(queues = "#{historyTasksCreatedQueue.name}")
+  public void onTasksCreated(Integer createdCount,
+      @Header(name = HistoryTaskBroadcastConfig.ORIGIN_HEADER, required = false) String origin) {
+    if (HistoryTaskBroadcastConfig.INSTANCE_ID.equals(origin) || createdCount == null) {
+      return;
+    }
+
+    log.debug("Instance {} created {} history update tasks", origin, createdCount);
+    claimWaiters.wakeUp(createdCount);
+  }
+}
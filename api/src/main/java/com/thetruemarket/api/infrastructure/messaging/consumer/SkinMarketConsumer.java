@@ -1,12 +1,17 @@
 package com.thetruemarket.api.infrastructure.messaging.consumer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.thetruemarket.api.application.usecase.ProcessSkinMarketDataUseCase;
 import com.thetruemarket.api.domain.model.SkinMarketData;
 import com.thetruemarket.api.domain.model.SkinMarketMessage;
 import com.thetruemarket.api.infrastructure.messaging.config.RabbitMQConfig;
 import com.thetruemarket.api.infrastructure.messaging.dto.SkinMarketDataDTO;
+import com.thetruemarket.api.infrastructure.messaging.journal.JournaledListing;
+import com.thetruemarket.api.infrastructure.messaging.journal.ListingJournal;
+import com.thetruemarket.api.infrastructure.messaging.retry.SkinMarketFailureHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
@@ -15,6 +20,10 @@ import org.springframework.stereotype.Component;
  * RabbitMQ consumer for processing CS2 skin market data messages.
  * Receives messages from all routing keys (steam, bitskins, dashskins)
  * and processes them accordingly.
+ * With ingest.journal.enabled, messages are only appended to the local ListingJournal
+ * (acknowledged once durable) and written to the database by ListingJournalDrainer.
+ * Failures are routed by SkinMarketFailureHandler (delayed retry or dead letter queue)
+ * instead of being requeued right away.
  * Part of the Infrastructure layer implementing message-driven architecture.
  */
 @Slf4j
@@ -22,6 +31,9 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SkinMarketConsumer {
   private final ProcessSkinMarketDataUseCase processSkinMarketDataUseCase;
+  private final ObjectProvider<ListingJournal> listingJournal;
+  private final ObjectMapper objectMapper;
+  private final SkinMarketFailureHandler failureHandler;
 
   /**
    * Listens to the skin market queue and processes incoming messages.
@@ -42,6 +54,15 @@ public class SkinMarketConsumer {
           messageDto.getStore(),
           messageDto.getPrice());
 
+      // Journal mode: the database write happens later, in the drainer
+      ListingJournal journal = listingJournal.getIfAvailable();
+      if (journal != null) {
+        journal.append(objectMapper.writeValueAsBytes(
+            new JournaledListing(routingKey, messageDto, SkinMarketFailureHandler.attemptOf(message))));
+        log.debug("Journaled message {} from routing key {}", messageDto.getId(), routingKey);
+        return;
+      }
+
       // Convert DTO to domain entity
       SkinMarketData marketData = messageDto.toDomain();
 
@@ -56,8 +77,8 @@ public class SkinMarketConsumer {
     } catch (Exception e) {
       log.error("Error processing skin market message from routing key: {}",
           message.getMessageProperties().getReceivedRoutingKey(), e);
-      // Re-throw to trigger retry mechanism or dead letter queue
-      throw new RuntimeException("Failed to process skin market message", e);
+      // Delayed retry or dead letter queue; the delivery itself is acknowledged
+      failureHandler.handle(message, e);
     }
   }
 
@@ -81,8 +102,9 @@ public class SkinMarketConsumer {
     // The use case will:
     // - Resolve image URL from cache or various sources
     // - Save the skin if it doesn't exist
+    // - Track the listing price for Steam listings
     // - Check if price history needs update
     // - Create history update task if needed
-    processSkinMarketDataUseCase.execute(message.getData(), messageDto);
+    processSkinMarketDataUseCase.execute(message.getData(), message.getSource(), messageDto);
   }
 }
@@ -0,0 +1,55 @@
+package com.thetruemarket.api.infrastructure.messaging.dto;
+
+import com.thetruemarket.api.domain.model.HistoryUpdateResult;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for scraped price history received from RabbitMQ.
+ * Same fields as the REST completion request, plus the task ID.
+ * Part of the Infrastructure layer (Interface Adapters).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryResultMessageDTO {
+
+  private Long taskId;
+
+  private String skinName;
+
+  private Wear wear;
+
+  /**
+   * Average price from recent Steam sales in BRL (cents)
+   */
+  private Long averagePrice;
+
+  /**
+   * Price of the last sale in BRL (cents)
+   */
+  private Long lastSalePrice;
+
+  /**
+   * Price of the lowest buy order in USD (cents)
+   */
+  private Long lowestBuyOrderPrice;
+
+  /**
+   * Converts the message to the domain result
+   */
+  public HistoryUpdateResult toDomain() {
+    return HistoryUpdateResult.builder()
+        .taskId(taskId)
+        .skinName(skinName)
+        .wear(wear)
+        .averagePriceInBrl(averagePrice)
+        .lastSalePriceInBrl(lastSalePrice)
+        .lowestBuyOrderPriceInUsd(lowestBuyOrderPrice)
+        .build();
+  }
+}
@@ -0,0 +1,48 @@
+package com.thetruemarket.api.infrastructure.messaging.dto;
+
+import com.thetruemarket.api.domain.model.HistoryUpdateTask;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for history update tasks published to RabbitMQ.
+ * Scrapers answer each task with a HistoryResultMessageDTO carrying the same taskId.
+ * Part of the Infrastructure layer (Interface Adapters).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryTaskMessageDTO {
+
+  private Long taskId;
+
+  private String skinName;
+
+  private Wear wear;
+
+  private Double priority;
+
+  /**
+   * After this instant the task is handed out again; the message expires at the same time
+   */
+  private LocalDateTime leaseExpiresAt;
+
+  /**
+   * Creates a message from a claimed domain task
+   */
+  public static HistoryTaskMessageDTO fromDomain(HistoryUpdateTask task) {
+    return HistoryTaskMessageDTO.builder()
+        .taskId(task.getId())
+        .skinName(task.getSkinName())
+        .wear(task.getWear())
+        .priority(task.getPriority())
+        .leaseExpiresAt(task.getLeaseExpiresAt())
+        .build();
+  }
+}
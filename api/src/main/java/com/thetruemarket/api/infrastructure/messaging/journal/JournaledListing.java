@@ -0,0 +1,31 @@
+package com.thetruemarket.api.infrastructure.messaging.journal;
+
+import com.thetruemarket.api.infrastructure.messaging.dto.SkinMarketDataDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One skin market message as stored in the listing journal (JSON payload of a record)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournaledListing {
+
+  /**
+   * Routing key the message was received with (selects the market source)
+   */
+  private String routingKey;
+
+  /**
+   * Message body as received from RabbitMQ
+   */
+  private SkinMarketDataDTO listing;
+
+  /**
+   * Retries the message already went through (x-retry-attempt), kept so a listing the
+   * drainer sends back to the retry queues does not restart its retry count
+   */
+  private int retryAttempt;
+}
@@ -0,0 +1,343 @@
+package com.thetruemarket.api.infrastructure.messaging.journal;
+
+import com.thetruemarket.api.infrastructure.config.ListingJournalConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Local, memory-mapped, append-only journal of skin market messages
+ *
+ * Layout (in ingest.journal.directory):
+ * - segment-NNNNNNNNNNNNNNNNNNNN.journal: fixed-size files mapped in memory, written in order.
+ *   Each record is [payload length: int][CRC32 of the payload: int][payload]; a zero
+ *   length marks the end of the written data of a segment
+ * - checkpoint: "segment offset" of the first record not yet written to the database,
+ *   replaced atomically
+ *
+ * Appends are serialized and forced to disk before returning, so a message can be
+ * acknowledged as soon as append() returns. The force is a group commit: records are
+ * written under the append lock, then one force covers every record appended so far,
+ * so appends waiting at the same time (concurrent listener threads) share one fsync.
+ * With a single appending thread each append still pays its own force, which caps
+ * ingest at roughly one message per fsync of the disk. On startup the last segment is scanned and
+ * cut after its last complete record (a crash can leave a torn record), and reading
+ * resumes from the checkpoint: every record after it is replayed. Segments entirely
+ * before the checkpoint are deleted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingest.journal.enabled", havingValue = "true")
+public class ListingJournal {
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".journal";
+  private static final String CHECKPOINT_FILE = "checkpoint";
+  private static final int HEADER_SIZE = 8;
+
+  private final ListingJournalConfig config;
+
+  private final ConcurrentNavigableMap<Long, MappedByteBuffer> segments = new ConcurrentSkipListMap<>();
+
+  private Path directory;
+  private MappedByteBuffer writeBuffer;
+  private final Object forceLock = new Object();
+
+  // Published after each append (written, maybe not yet forced)
+  private volatile Position writePosition;
+  // Published after each force; readers never go past it
+  private volatile Position durablePosition;
+  private volatile Position checkpoint;
+
+  @PostConstruct
+  public void open() throws IOException {
+    directory = Path.of(config.getDirectory());
+    Files.createDirectories(directory);
+
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        String name = file.getFileName().toString();
+        if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+          long segment = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+          segments.put(segment, map(file, Files.size(file)));
+        }
+      }
+    }
+
+    Position saved = readCheckpoint();
+    checkpoint = saved != null ? saved : new Position(segments.isEmpty() ? 0 : segments.firstKey(), 0);
+    deleteSegmentsBefore(checkpoint.segment());
+
+    if (segments.isEmpty()) {
+      // Nothing to replay: start a new segment (past the checkpoint if it points inside a deleted one)
+      long first = checkpoint.offset() > 0 ? checkpoint.segment() + 1 : checkpoint.segment();
+      writeBuffer = createSegment(first);
+      writePosition = new Position(first, 0);
+      checkpoint = writePosition;
+    } else {
+      long last = segments.lastKey();
+      writeBuffer = segments.get(last);
+      writePosition = new Position(last, recover(writeBuffer));
+    }
+    durablePosition = writePosition;
+
+    log.info("Listing journal opened in {}: replaying from {} up to {}", directory, checkpoint, writePosition);
+  }
+
+  /**
+   * Appends a record and forces it to disk
+   *
+   * @param payload Record payload (JSON of a JournaledListing)
+   * @throws IOException if the record cannot be stored (the message must not be acknowledged)
+   */
+  public void append(byte[] payload) throws IOException {
+    force(write(payload));
+  }
+
+  /**
+   * Writes a record after the last one, without forcing it
+   *
+   * @return Position following the record
+   */
+  private synchronized Position write(byte[] payload) throws IOException {
+    int recordSize = HEADER_SIZE + payload.length;
+    if (recordSize > segmentSizeBytes()) {
+      throw new IOException("Record of " + payload.length + " bytes is larger than a journal segment");
+    }
+
+    Position position = writePosition;
+    int offset = position.offset();
+    long segment = position.segment();
+
+    if (offset + recordSize > writeBuffer.capacity()) {
+      segment++;
+      offset = 0;
+      writeBuffer = createSegment(segment);
+    }
+
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+
+    // The length goes last: recovery only sees the record once it is complete
+    writeBuffer.put(offset + HEADER_SIZE, payload);
+    writeBuffer.putInt(offset + Integer.BYTES, (int) crc.getValue());
+    writeBuffer.putInt(offset, payload.length);
+
+    writePosition = new Position(segment, offset + recordSize);
+    return writePosition;
+  }
+
+  /**
+   * Forces to disk every record appended so far, unless another append's force
+   * already covered the given position
+   */
+  private void force(Position upTo) {
+    if (durablePosition.compareTo(upTo) >= 0) {
+      return;
+    }
+
+    synchronized (forceLock) {
+      Position from = durablePosition;
+      if (from.compareTo(upTo) >= 0) {
+        return;
+      }
+
+      Position end = writePosition;
+      for (long segment = from.segment(); segment <= end.segment(); segment++) {
+        MappedByteBuffer buffer = segments.get(segment);
+        if (buffer == null) {
+          continue;
+        }
+        int start = segment == from.segment() ? from.offset() : 0;
+        int stop = segment == end.segment() ? end.offset() : buffer.capacity();
+        if (stop > start) {
+          buffer.force(start, stop - start);
+        }
+      }
+
+      durablePosition = end;
+    }
+  }
+
+  /**
+   * Reads up to {@code maxRecords} records starting at the given position
+   *
+   * @param from Position of the first record to read (usually the checkpoint)
+   * @param maxRecords Maximum number of records returned
+   * @return Records in append order, each with the position following it
+   */
+  public List<JournalRecord> read(Position from, int maxRecords) {
+    Position end = durablePosition;
+    List<JournalRecord> records = new ArrayList<>();
+    long segment = from.segment();
+    int offset = from.offset();
+
+    while (records.size() < maxRecords && new Position(segment, offset).compareTo(end) < 0) {
+      MappedByteBuffer buffer = segments.get(segment);
+      if (buffer == null || offset + HEADER_SIZE > buffer.capacity() || buffer.getInt(offset) == 0) {
+        // End of this segment: the next one starts at offset 0
+        Long next = segments.higherKey(segment);
+        if (next == null) {
+          break;
+        }
+        segment = next;
+        offset = 0;
+        continue;
+      }
+
+      int length = buffer.getInt(offset);
+      byte[] payload = new byte[length];
+      buffer.get(offset + HEADER_SIZE, payload);
+      offset += HEADER_SIZE + length;
+
+      records.add(new JournalRecord(payload, new Position(segment, offset)));
+    }
+
+    return records;
+  }
+
+  /**
+   * Records that every record before the given position is in the database,
+   * then deletes the segments that are no longer needed
+   *
+   * @param position Position following the last record written to the database
+   * @throws IOException if the checkpoint cannot be saved (the records will be replayed)
+   */
+  public void commit(Position position) throws IOException {
+    Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+    try (FileChannel channel = FileChannel.open(temp,
+        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      channel.write(StandardCharsets.US_ASCII.encode(position.segment() + " " + position.offset()));
+      channel.force(true);
+    }
+    Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    checkpoint = position;
+    deleteSegmentsBefore(position.segment());
+  }
+
+  /**
+   * @return Position of the first record not yet written to the database
+   */
+  public Position getCheckpoint() {
+    return checkpoint;
+  }
+
+  /**
+   * @return Position the next record will be appended at
+   */
+  public Position getWritePosition() {
+    return writePosition;
+  }
+
+  /**
+   * Returns the offset following the last complete record of a segment and clears
+   * whatever follows it (torn record of a crash)
+   */
+  private int recover(MappedByteBuffer buffer) {
+    int offset = 0;
+    while (offset + HEADER_SIZE <= buffer.capacity()) {
+      int length = buffer.getInt(offset);
+      if (length <= 0 || offset + HEADER_SIZE + length > buffer.capacity()) {
+        break;
+      }
+
+      byte[] payload = new byte[length];
+      buffer.get(offset + HEADER_SIZE, payload);
+      CRC32 crc = new CRC32();
+      crc.update(payload);
+      if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+        log.warn("Listing journal: dropping torn record at offset {}", offset);
+        break;
+      }
+
+      offset += HEADER_SIZE + length;
+    }
+
+    for (int i = offset; i < buffer.capacity(); i++) {
+      buffer.put(i, (byte) 0);
+    }
+    buffer.force();
+
+    return offset;
+  }
+
+  private MappedByteBuffer createSegment(long segment) throws IOException {
+    Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    MappedByteBuffer buffer = map(file, segmentSizeBytes());
+    segments.put(segment, buffer);
+    return buffer;
+  }
+
+  private long segmentSizeBytes() {
+    return (long) config.getSegmentSizeMb() * 1024 * 1024;
+  }
+
+  private static MappedByteBuffer map(Path file, long size) throws IOException {
+    try (FileChannel channel = FileChannel.open(file,
+        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // The mapping stays valid after the channel is closed
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+  }
+
+  private void deleteSegmentsBefore(long segment) throws IOException {
+    for (Long drained : segments.headMap(segment).keySet()) {
+      segments.remove(drained);
+      Files.deleteIfExists(directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, drained, SEGMENT_SUFFIX)));
+    }
+  }
+
+  private Position readCheckpoint() throws IOException {
+    Path file = directory.resolve(CHECKPOINT_FILE);
+    if (!Files.exists(file)) {
+      return null;
+    }
+
+    String[] parts = Files.readString(file, StandardCharsets.US_ASCII).trim().split(" ");
+    return new Position(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+  }
+
+  /**
+   * Location in the journal: segment number and byte offset in that segment
+   */
+  public record Position(long segment, int offset) implements Comparable<Position> {
+    @Override
+    public int compareTo(Position other) {
+      int bySegment = Long.compare(segment, other.segment);
+      return bySegment != 0 ? bySegment : Integer.compare(offset, other.offset);
+    }
+
+    @Override
+    public String toString() {
+      return segment + ":" + offset;
+    }
+  }
+
+  /**
+   * One record read from the journal
+   *
+   * @param payload Record payload
+   * @param next Position following the record (the checkpoint once it is in the database)
+   */
+  public record JournalRecord(byte[] payload, Position next) {
+  }
+}
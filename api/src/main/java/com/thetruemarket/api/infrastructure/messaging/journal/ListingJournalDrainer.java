@@ -0,0 +1,177 @@
+package com.thetruemarket.api.infrastructure.messaging.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thetruemarket.api.application.usecase.ProcessSkinMarketDataUseCase;
+import com.thetruemarket.api.domain.model.SkinMarketMessage;
+import com.thetruemarket.api.infrastructure.config.ListingJournalConfig;
+import com.thetruemarket.api.infrastructure.messaging.journal.ListingJournal.JournalRecord;
+import com.thetruemarket.api.infrastructure.messaging.retry.SkinMarketFailureClassifier;
+import com.thetruemarket.api.infrastructure.messaging.retry.SkinMarketFailureHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the listings of the ListingJournal to the database
+ *
+ * Each run reads the journal from its checkpoint and processes the listings in batches,
+ * one transaction per batch, advancing the checkpoint after each committed batch.
+ * - A batch failing because the database is unavailable is left in the journal and retried
+ *   on the next run, without any redelivery loop
+ * - A batch failing for another reason is replayed one listing per transaction; listings
+ *   that still fail go through SkinMarketFailureHandler like a failed delivery: retry
+ *   queues (the listing comes back through the listener with its retry count) or the
+ *   dead letter queue. Unreadable records go to the dead letter queue as they are.
+ *   An unavailable exchange rate only fails the non-USD listings, so they take the retry
+ *   queues while the rest of the journal keeps draining.
+ * Failures are classified by SkinMarketFailureClassifier, shared with the listener.
+ *
+ * Runs on every instance (each has its own journal), not as a cluster-locked job.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingest.journal.enabled", havingValue = "true")
+public class ListingJournalDrainer {
+  // Dead-letter routing key of unreadable records (their own key is lost); matches the DLQ binding
+  private static final String UNREADABLE_ROUTING_KEY = "skin.market.journal";
+
+  private final ListingJournal journal;
+  private final ProcessSkinMarketDataUseCase processSkinMarketDataUseCase;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final ListingJournalConfig config;
+  private final SkinMarketFailureClassifier classifier;
+  private final SkinMarketFailureHandler failureHandler;
+
+  @Scheduled(fixedDelayString = "${ingest.journal.drain-interval-ms:1000}")
+  public void drain() {
+    int drainedCount = 0;
+
+    try {
+      List<JournalRecord> batch;
+      while (!(batch = journal.read(journal.getCheckpoint(), config.getDrainBatchSize())).isEmpty()) {
+        int applied = apply(batch);
+        if (applied > 0) {
+          journal.commit(batch.get(applied - 1).next());
+          drainedCount += applied;
+        }
+        if (applied < batch.size()) {
+          break;
+        }
+      }
+    } catch (IOException e) {
+      log.error("Could not save the listing journal checkpoint, drained listings will be replayed: {}", e.getMessage(), e);
+    }
+
+    if (drainedCount > 0) {
+      log.info("Listing journal drained {} listings (checkpoint {}, end {})",
+          drainedCount, journal.getCheckpoint(), journal.getWritePosition());
+    }
+  }
+
+  /**
+   * Writes a batch to the database
+   *
+   * @return Number of leading records of the batch that are done (written or handed to the
+   *         retry / dead letter queues)
+   */
+  private int apply(List<JournalRecord> batch) {
+    try {
+      List<JournaledListing> listings = new ArrayList<>(batch.size());
+      for (JournalRecord record : batch) {
+        listings.add(decode(record));
+      }
+      transactionTemplate.executeWithoutResult(status -> listings.forEach(this::process));
+      return batch.size();
+    } catch (Exception e) {
+      if (classifier.isDatabaseUnavailable(e)) {
+        log.warn("Listing journal drain paused, database unavailable: {}", e.getMessage());
+        return 0;
+      }
+      log.warn("Listing journal batch of {} failed, replaying it one listing at a time: {}",
+          batch.size(), e.getMessage());
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      if (!applyOne(batch.get(i))) {
+        return i;
+      }
+    }
+
+    return batch.size();
+  }
+
+  /**
+   * Writes one record in its own transaction; a record that fails for a reason other than
+   * an unavailable database goes through SkinMarketFailureHandler (retry queue or DLQ)
+   *
+   * @return true if the record is done, false if the drain must stop and retry it later
+   */
+  private boolean applyOne(JournalRecord record) {
+    JournaledListing listing;
+    try {
+      listing = decode(record);
+    } catch (IOException e) {
+      log.error("Unreadable listing journal record before {}, sending it to the DLQ: {}", record.next(), e.getMessage());
+      return reroute(UNREADABLE_ROUTING_KEY, record.payload(), 0, e);
+    }
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> process(listing));
+      return true;
+    } catch (Exception e) {
+      if (classifier.isDatabaseUnavailable(e)) {
+        log.warn("Listing journal drain paused, database unavailable: {}", e.getMessage());
+        return false;
+      }
+      log.error("Journaled listing {} failed, routing it to the retry or dead letter queue: {}",
+          listing.getListing().getId(), e.getMessage(), e);
+      return reroute(listing.getRoutingKey(), bodyOf(listing, record), listing.getRetryAttempt(), e);
+    }
+  }
+
+  private void process(JournaledListing listing) {
+    SkinMarketMessage message = SkinMarketMessage.from(listing.getListing().toDomain(), listing.getRoutingKey());
+    processSkinMarketDataUseCase.execute(message.getData(), message.getSource(), listing.getListing());
+  }
+
+  /**
+   * Hands a failed record to the failure handler, as if the listener had failed on it
+   *
+   * @return false if it could not be republished (the record stays in the journal)
+   */
+  private boolean reroute(String routingKey, byte[] body, int attempt, Exception error) {
+    try {
+      failureHandler.handle(routingKey, body, attempt, error);
+      return true;
+    } catch (AmqpException e) {
+      log.warn("Listing journal drain paused, could not republish a failed listing: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  private JournaledListing decode(JournalRecord record) throws IOException {
+    return objectMapper.readValue(record.payload(), JournaledListing.class);
+  }
+
+  /**
+   * Message body of a journaled listing, as the listener received it
+   */
+  private byte[] bodyOf(JournaledListing listing, JournalRecord record) {
+    try {
+      return objectMapper.writeValueAsBytes(listing.getListing());
+    } catch (JsonProcessingException e) {
+      return record.payload();
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.thetruemarket.api.infrastructure.messaging.publisher;
+
+import com.thetruemarket.api.application.usecase.ClaimHistoryUpdateTasksUseCase;
+import com.thetruemarket.api.domain.event.HistoryUpdateTasksCreatedEvent;
+import com.thetruemarket.api.domain.model.HistoryUpdateTask;
+import com.thetruemarket.api.infrastructure.config.HistoryConfig;
+import com.thetruemarket.api.infrastructure.config.HistoryDispatchConfig;
+import com.thetruemarket.api.infrastructure.messaging.config.HistoryTaskAmqpConfig;
+import com.thetruemarket.api.infrastructure.messaging.dto.HistoryTaskMessageDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Publishes history update tasks to the history.update.tasks queue (AMQP dispatch mode).
+ *
+ * Tasks are claimed through ClaimHistoryUpdateTasksUseCase, so AMQP dispatch keeps the
+ * priority order, the dispatch budget and the lease: a task whose result does not come
+ * back before its lease expires is claimed and published again. Each message expires
+ * together with its lease, so a stale copy never outlives the re-published one.
+ *
+ * The dispatcher only tops the queue up to history.dispatch.amqp-max-queued-tasks;
+ * scrapers consuming with a bounded prefetch therefore pace the whole pipeline.
+ * It runs when tasks are created (HistoryUpdateTasksCreatedEvent) and periodically
+ * from DispatchHistoryTasksJob.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "history.dispatch", name = "mode", havingValue = "amqp")
+@RequiredArgsConstructor
+public class AmqpHistoryTaskDispatcher {
+  public static final String WORKER_ID = "amqp-dispatcher";
+
+  private final ClaimHistoryUpdateTasksUseCase claimHistoryUpdateTasksUseCase;
+  private final RabbitTemplate rabbitTemplate;
+  private final AmqpAdmin amqpAdmin;
+  private final HistoryConfig historyConfig;
+  private final HistoryDispatchConfig historyDispatchConfig;
+
+  private final ExecutorService dispatchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "history-task-dispatch");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * Tops the queue up once newly created tasks have been committed
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTasksCreated(HistoryUpdateTasksCreatedEvent event) {
+    dispatchExecutor.execute(() -> {
+      try {
+        dispatch();
+      } catch (Exception e) {
+        log.warn("Could not dispatch history update tasks: {}", e.getMessage());
+      }
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    dispatchExecutor.shutdownNow();
+  }
+
+  /**
+   * Claims and publishes tasks until the queue is full or no task is claimable
+   *
+   * @return Number of tasks published
+   */
+  public synchronized int dispatch() {
+    int capacity = historyDispatchConfig.getAmqpMaxQueuedTasks() - queuedTaskCount();
+    int published = 0;
+
+    while (capacity > 0) {
+      List<HistoryUpdateTask> tasks = claimHistoryUpdateTasksUseCase.execute(WORKER_ID,
+          Math.min(capacity, historyConfig.getMaxClaimSize()));
+      if (tasks.isEmpty()) {
+        break;
+      }
+
+      tasks.forEach(this::publish);
+      published += tasks.size();
+      capacity -= tasks.size();
+    }
+
+    if (published > 0) {
+      log.info("Published {} history update tasks to {}", published, HistoryTaskAmqpConfig.TASKS_QUEUE_NAME);
+    }
+    return published;
+  }
+
+  private void publish(HistoryUpdateTask task) {
+    String expirationMillis = String.valueOf(historyConfig.getLeaseSeconds() * 1000L);
+
+    rabbitTemplate.convertAndSend(
+        HistoryTaskAmqpConfig.EXCHANGE_NAME,
+        HistoryTaskAmqpConfig.TASKS_ROUTING_KEY,
+        HistoryTaskMessageDTO.fromDomain(task),
+        message -> {
+          message.getMessageProperties().setExpiration(expirationMillis);
+          return message;
+        });
+  }
+
+  private int queuedTaskCount() {
+    QueueInformation queueInformation = amqpAdmin.getQueueInfo(HistoryTaskAmqpConfig.TASKS_QUEUE_NAME);
+    return queueInformation != null ? queueInformation.getMessageCount() : 0;
+  }
+}
@@ -0,0 +1,66 @@
+package com.thetruemarket.api.infrastructure.messaging.publisher;
+
+import com.thetruemarket.api.domain.event.HistoryUpdateTasksCreatedEvent;
+import com.thetruemarket.api.infrastructure.messaging.config.HistoryTaskBroadcastConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Announces committed history update tasks to the other API instances
+ * (history.update.created fanout, see HistoryTaskBroadcastConfig), which wake their
+ * long-polling claim requests (HistoryTasksCreatedConsumer).
+ *
+ * Publishing runs on its own thread so a slow or unreachable broker never holds up task
+ * creation; creations announced while a publish is pending are merged into one message.
+ * A lost announcement only delays waiters until their next request.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryTasksCreatedBroadcaster {
+  private final RabbitTemplate rabbitTemplate;
+
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final ExecutorService broadcastExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "history-task-broadcast");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * Announces newly created tasks once they have been committed
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTasksCreated(HistoryUpdateTasksCreatedEvent event) {
+    if (event.getCount() > 0 && pendingCount.getAndAdd(event.getCount()) == 0) {
+      broadcastExecutor.execute(this::publishPending);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    broadcastExecutor.shutdownNow();
+  }
+
+  private void publishPending() {
+    int count = pendingCount.getAndSet(0);
+    try {
+      rabbitTemplate.convertAndSend(HistoryTaskBroadcastConfig.EXCHANGE_NAME, "", count, message -> {
+        message.getMessageProperties().setHeader(HistoryTaskBroadcastConfig.ORIGIN_HEADER,
+            HistoryTaskBroadcastConfig.INSTANCE_ID);
+        return message;
+      });
+    } catch (AmqpException e) {
+      log.warn("Could not announce {} created history update tasks to the other instances: {}", count, e.getMessage());
+    }
+  }
+}
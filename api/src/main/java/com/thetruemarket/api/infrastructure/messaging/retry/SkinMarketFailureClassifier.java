@@ -0,0 +1,90 @@
+package com.thetruemarket.api.infrastructure.messaging.retry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.List;
+
+/**
+ * Classifies the failures of skin market message processing, for both the listener
+ * (SkinMarketFailureHandler) and the journal drain (ListingJournalDrainer)
+ *
+ * - Non-retriable: the message itself is wrong and would fail again (e.g. a skin name
+ *   without a wear); it goes to the dead letter queue
+ * - Database unavailable: nothing is wrong with the message, which must simply be processed
+ *   later; the journal drain stops on it, since every other listing would fail the same way
+ * - Anything else is retriable with backoff. Unique key violations are retriable too:
+ *   they come from two writers racing on the same skin, and the retry sees the winner's row.
+ *   An unavailable exchange rate is retriable as well: it only affects non-USD listings
+ */
+@Component
+public class SkinMarketFailureClassifier {
+  // PostgreSQL unique_violation
+  private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+  private static final List<Class<? extends Throwable>> NON_RETRIABLE = List.of(
+      IllegalArgumentException.class,
+      NullPointerException.class,
+      ClassCastException.class,
+      JsonProcessingException.class,
+      DataIntegrityViolationException.class);
+
+  private static final List<Class<? extends Throwable>> DATABASE_UNAVAILABLE = List.of(
+      CannotCreateTransactionException.class,
+      DataAccessResourceFailureException.class,
+      TransientDataAccessException.class,
+      RecoverableDataAccessException.class,
+      SQLTransientException.class,
+      SQLRecoverableException.class);
+
+  /**
+   * Whether retrying the message can never succeed
+   *
+   * @param error The processing failure
+   * @return true if the message must go to the dead letter queue right away
+   */
+  public boolean isNonRetriable(Throwable error) {
+    return !isUniqueViolation(error) && anyCauseIs(error, NON_RETRIABLE);
+  }
+
+  /**
+   * Whether the failure comes from the database being unavailable rather than from the message
+   *
+   * @param error The processing failure
+   * @return true if the message should be processed again once the database is back
+   */
+  public boolean isDatabaseUnavailable(Throwable error) {
+    return anyCauseIs(error, DATABASE_UNAVAILABLE);
+  }
+
+  private static boolean isUniqueViolation(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof DuplicateKeyException
+          || (cause instanceof SQLException sqlException
+              && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean anyCauseIs(Throwable error, List<Class<? extends Throwable>> types) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      for (Class<? extends Throwable> type : types) {
+        if (type.isInstance(cause)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,149 @@
+package com.thetruemarket.api.infrastructure.messaging.retry;
+
+import com.thetruemarket.api.infrastructure.config.SkinMarketRetryConfig;
+import com.thetruemarket.api.infrastructure.messaging.config.RabbitMQConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Decides what happens to a skin market message whose processing failed
+ *
+ * - Non-retriable failures (the same message would fail again, e.g. a skin name without
+ *   a wear, see SkinMarketFailureClassifier) go straight to the dead letter queue
+ * - Other failures are republished to the retry exchange with an incremented
+ *   x-retry-attempt header and come back after the delay of their tier
+ *   (exponential backoff, see SkinMarketRetryConfig)
+ * - Messages that used all their retries go to the dead letter queue
+ *
+ * Dead-lettered messages keep their original routing key and carry the failure in the
+ * x-exception-type and x-exception-message headers. In every case the original delivery
+ * is then acknowledged, so a failing message never spins on the main queue.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkinMarketFailureHandler {
+  public static final String EXCEPTION_TYPE_HEADER = "x-exception-type";
+  public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+
+  private static final int MAX_EXCEPTION_MESSAGE_LENGTH = 500;
+
+  private final RabbitTemplate rabbitTemplate;
+  private final SkinMarketRetryConfig retryConfig;
+  private final SkinMarketFailureClassifier classifier;
+
+  /**
+   * Routes a failed message that is no longer an AMQP delivery (a journaled listing)
+   *
+   * @param routingKey Routing key the message was received with
+   * @param body       JSON message body
+   * @param attempt    Retries the message already went through
+   * @param error      The processing failure
+   * @throws AmqpRejectAndDontRequeueException if the message could not be republished
+   */
+  public void handle(String routingKey, byte[] body, int attempt, Exception error) {
+    MessageProperties properties = new MessageProperties();
+    properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+    properties.setReceivedRoutingKey(routingKey);
+    properties.setHeader(RabbitMQConfig.RETRY_ATTEMPT_HEADER, attempt);
+
+    handle(new Message(body, properties), error);
+  }
+
+  /**
+   * Routes a failed message to a retry queue or to the dead letter queue
+   *
+   * @param message The failed message as received
+   * @param error   The processing failure
+   * @throws AmqpRejectAndDontRequeueException if the message could not be republished
+   *                                           (the broker then dead-letters it)
+   */
+  public void handle(Message message, Exception error) {
+    String routingKey = message.getMessageProperties().getReceivedRoutingKey();
+    int attempt = attemptOf(message);
+
+    try {
+      if (classifier.isNonRetriable(error)) {
+        log.error("Non-retriable failure for message from {}, sending it to the DLQ: {}", routingKey, error.toString());
+        deadLetter(message, routingKey, attempt, error);
+      } else if (attempt >= retryConfig.getMaxAttempts()) {
+        log.error("Message from {} failed after {} retries, sending it to the DLQ: {}", routingKey, attempt, error.toString());
+        deadLetter(message, routingKey, attempt, error);
+      } else {
+        long delayMs = delayOf(attempt + 1);
+        log.warn("Retrying message from {} in {} ms (retry {}/{}): {}",
+            routingKey, delayMs, attempt + 1, retryConfig.getMaxAttempts(), error.toString());
+        retry(message, routingKey, attempt + 1, delayMs);
+      }
+    } catch (Exception publishError) {
+      log.error("Could not republish failed message from {}, rejecting it", routingKey, publishError);
+      throw new AmqpRejectAndDontRequeueException("Failed to route failed skin market message", error);
+    }
+  }
+
+  private void retry(Message message, String routingKey, int attempt, long delayMs) {
+    Message retry = MessageBuilder.fromMessage(message)
+        .setHeader(RabbitMQConfig.RETRY_ATTEMPT_HEADER, attempt)
+        .setHeader(RabbitMQConfig.RETRY_DELAY_HEADER, String.valueOf(delayMs))
+        .build();
+
+    rabbitTemplate.send(RabbitMQConfig.RETRY_EXCHANGE_NAME, routingKey, retry);
+  }
+
+  private void deadLetter(Message message, String routingKey, int attempt, Exception error) {
+    String errorMessage = String.valueOf(error.getMessage());
+    if (errorMessage.length() > MAX_EXCEPTION_MESSAGE_LENGTH) {
+      errorMessage = errorMessage.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
+    }
+
+    Message poison = MessageBuilder.fromMessage(message)
+        .setHeader(RabbitMQConfig.RETRY_ATTEMPT_HEADER, attempt)
+        .setHeader(EXCEPTION_TYPE_HEADER, rootCause(error).getClass().getName())
+        .setHeader(EXCEPTION_MESSAGE_HEADER, errorMessage)
+        .build();
+
+    rabbitTemplate.send(RabbitMQConfig.DEAD_LETTER_EXCHANGE_NAME, routingKey, poison);
+  }
+
+  /**
+   * Delay of a retry: the N-th configured delay, or the last one past the end of the list
+   */
+  private long delayOf(int attempt) {
+    List<Long> delays = retryConfig.getDelaysMs();
+    return delays.get(Math.min(attempt, delays.size()) - 1);
+  }
+
+  /**
+   * Retries a message already went through (its x-retry-attempt header, 0 if absent)
+   */
+  public static int attemptOf(Message message) {
+    Object header = message.getMessageProperties().getHeader(RabbitMQConfig.RETRY_ATTEMPT_HEADER);
+    if (header instanceof Number number) {
+      return number.intValue();
+    }
+    if (header != null) {
+      try {
+        return Integer.parseInt(header.toString());
+      } catch (NumberFormatException e) {
+        return 0;
+      }
+    }
+    return 0;
+  }
+
+  private static Throwable rootCause(Throwable error) {
+    Throwable root = error;
+    while (root.getCause() != null && root.getCause() != root) {
+      root = root.getCause();
+    }
+    return root;
+  }
+}
@@ -1,17 +1,26 @@
 package com.thetruemarket.api.infrastructure.persistence.adapter;
 
 import com.thetruemarket.api.domain.model.HistoryUpdateTask;
+import com.thetruemarket.api.domain.model.TaskPriorityInput;
 import com.thetruemarket.api.domain.repository.HistoryUpdateTaskRepository;
+import com.thetruemarket.api.domain.service.ItemCatalog;
+import com.thetruemarket.api.domain.valueobject.HistoryExpirationPolicy;
+import com.thetruemarket.api.domain.valueobject.SteamListingPostponePolicy;
 import com.thetruemarket.api.domain.valueobject.TaskStatus;
-import com.thetruemarket.api.domain.valueobject.Wear;
 import com.thetruemarket.api.infrastructure.persistence.entity.HistoryUpdateTaskEntity;
 import com.thetruemarket.api.infrastructure.persistence.mapper.HistoryUpdateTaskMapper;
 import com.thetruemarket.api.infrastructure.persistence.repository.HistoryUpdateTaskJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -24,10 +33,13 @@ import java.util.stream.Collectors;
 public class HistoryUpdateTaskRepositoryAdapter implements HistoryUpdateTaskRepository {
     private final HistoryUpdateTaskJpaRepository jpaRepository;
     private final HistoryUpdateTaskMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemCatalog itemCatalog;
 
     @Override
     public HistoryUpdateTask save(HistoryUpdateTask task) {
         HistoryUpdateTaskEntity entity = mapper.toEntity(task);
+        entity.setItemId(itemCatalog.resolveId(task.getSkinName(), task.getWear()));
         HistoryUpdateTaskEntity savedEntity = jpaRepository.save(entity);
         return mapper.toDomain(savedEntity);
     }
@@ -38,6 +50,31 @@ public class HistoryUpdateTaskRepositoryAdapter implements HistoryUpdateTaskRepo
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<HistoryUpdateTask> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<HistoryUpdateTask> findAllByIdForUpdate(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByIdForUpdate(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int completeAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.completeAll(ids, TaskStatus.COMPLETED, TaskStatus.IN_PROGRESS, LocalDateTime.now());
+    }
+
     @Override
     public List<HistoryUpdateTask> findByStatusOrderByCreatedAtAsc(TaskStatus status) {
         return jpaRepository.findByStatusOrderByCreatedAtAsc(status).stream()
@@ -46,19 +83,78 @@ public class HistoryUpdateTaskRepositoryAdapter implements HistoryUpdateTaskRepo
     }
 
     @Override
-    public boolean existsBySkinNameAndWearAndStatus(String skinName, Wear wear, TaskStatus status) {
-        return jpaRepository.existsBySkinNameAndWearAndStatus(skinName, wear, status);
+    public Optional<HistoryUpdateTask> createWaitingIfAbsent(HistoryUpdateTask task) {
+        return jpaRepository.insertWaitingIfAbsent(
+                        itemCatalog.resolveId(task.getSkinName(), task.getWear()),
+                        task.getSkinName(),
+                        task.getWear().name(),
+                        task.getPriority(),
+                        task.getCreatedAt())
+                .map(mapper::toDomain);
     }
 
     @Override
-    public List<HistoryUpdateTask> findByStatusAndFinishedAtBefore(TaskStatus status, LocalDateTime finishedBefore) {
-        return jpaRepository.findByStatusAndFinishedAtBefore(status, finishedBefore).stream()
+    public int deleteChunkByStatusAndFinishedAtBefore(TaskStatus status, LocalDateTime finishedBefore, int limit) {
+        return jpaRepository.deleteChunkByStatusAndFinishedAtBefore(status.name(), finishedBefore, limit);
+    }
+
+    @Override
+    public List<HistoryUpdateTask> createWaitingForStaleAvailableSkins(HistoryExpirationPolicy expirationPolicy,
+                                                                       SteamListingPostponePolicy postponePolicy) {
+        LocalDateTime now = LocalDateTime.now();
+        // A disabled postpone policy gets an impossible history bound, so no item is postponed
+        LocalDateTime historySince = postponePolicy.isEnabled()
+                ? now.minusSeconds(postponePolicy.getMaxHistoryAgeSeconds())
+                : now.plusYears(1);
+
+        return jpaRepository.insertWaitingForStaleAvailableSkins(
+                        expirationPolicy.getBaseSeconds(),
+                        expirationPolicy.getMinSeconds(),
+                        expirationPolicy.getMaxSeconds(),
+                        expirationPolicy.getTargetVolatility(),
+                        now.minusSeconds(postponePolicy.getListingWindowSeconds()),
+                        historySince,
+                        postponePolicy.getPriceTolerance(),
+                        now).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<HistoryUpdateTask> claim(String workerId, Duration leaseDuration, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return jpaRepository.claim(workerId, now, now.plus(leaseDuration), limit).stream()
                 .map(mapper::toDomain)
+                // RETURNING does not preserve the subquery order
+                .sorted(Comparator.comparing(HistoryUpdateTask::getPriority,
+                                Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(HistoryUpdateTask::getCreatedAt))
                 .collect(Collectors.toList());
     }
 
     @Override
-    public void deleteByStatusAndFinishedAtBefore(TaskStatus status, LocalDateTime finishedBefore) {
-        jpaRepository.deleteByStatusAndFinishedAtBefore(status, finishedBefore);
+    public List<TaskPriorityInput> findOpenTaskPriorityInputs() {
+        return jpaRepository.findOpenTaskPriorityInputs().stream()
+                .map(view -> TaskPriorityInput.builder()
+                        .taskId(view.getTaskId())
+                        .bestListingPriceUsd(view.getBestListingPrice())
+                        .listingCount(view.getListingCount() != null ? view.getListingCount().intValue() : 0)
+                        .lastSteamAveragePriceUsd(view.getLastAveragePrice())
+                        .lastRecordedAt(view.getLastRecordedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void updatePriorities(Map<Long, Double> prioritiesByTaskId) {
+        if (prioritiesByTaskId.isEmpty()) {
+            return;
+        }
+
+        // Single JDBC batch instead of loading and saving every task entity
+        List<Object[]> batchArgs = new ArrayList<>(prioritiesByTaskId.size());
+        prioritiesByTaskId.forEach((taskId, priority) -> batchArgs.add(new Object[]{priority, taskId}));
+
+        jdbcTemplate.batchUpdate("UPDATE history_update_tasks SET priority = ? WHERE id = ?", batchArgs);
     }
 }
@@ -0,0 +1,57 @@
+package com.thetruemarket.api.infrastructure.persistence.adapter;
+
+import com.thetruemarket.api.domain.repository.JobStateRepository;
+import com.thetruemarket.api.infrastructure.persistence.entity.JobStateEntity;
+import com.thetruemarket.api.infrastructure.persistence.repository.JobStateJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Adapter implementation of JobStateRepository using JPA
+ * Implements the Adapter/Port pattern for Clean Architecture
+ */
+@Component
+@RequiredArgsConstructor
+public class JobStateRepositoryAdapter implements JobStateRepository {
+    private final JobStateJpaRepository jpaRepository;
+
+    @Override
+    public boolean tryLock(String jobName, String owner, Duration lockAtMostFor) {
+        return jpaRepository.tryLock(jobName, owner, lockAtMostFor.toSeconds()) > 0;
+    }
+
+    @Override
+    public void unlock(String jobName, String owner, Duration lockAtLeastFor) {
+        jpaRepository.unlock(jobName, owner, lockAtLeastFor.toSeconds());
+    }
+
+    @Override
+    public Optional<String> findCursor(String jobName) {
+        return jpaRepository.findById(jobName)
+                .map(JobStateEntity::getCursorValue);
+    }
+
+    @Override
+    public void saveCursor(String jobName, String cursor) {
+        jpaRepository.saveCursor(jobName, cursor);
+    }
+
+    @Override
+    public int acquireBudget(String name, int requested, int budget, Duration window) {
+        Integer granted = jpaRepository.acquireBudget(name, requested, budget, window.toSeconds());
+        if (granted == null) {
+            // First use of this budget: create its row, then reserve
+            jpaRepository.createBudget(name);
+            granted = jpaRepository.acquireBudget(name, requested, budget, window.toSeconds());
+        }
+        return granted != null ? granted : 0;
+    }
+
+    @Override
+    public void releaseBudget(String name, int unused) {
+        jpaRepository.releaseBudget(name, unused);
+    }
+}
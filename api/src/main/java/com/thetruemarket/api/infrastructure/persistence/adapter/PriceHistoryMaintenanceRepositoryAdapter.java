@@ -0,0 +1,192 @@
+package com.thetruemarket.api.infrastructure.persistence.adapter;
+
+import com.thetruemarket.api.domain.repository.PriceHistoryMaintenanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementation of PriceHistoryMaintenanceRepository using plain JDBC
+ * Partition DDL and rollup statements are PostgreSQL-specific and touch tables
+ * without JPA entities (partitions, steam_price_history_hourly/daily)
+ * Implements the Adapter/Port pattern for Clean Architecture
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceHistoryMaintenanceRepositoryAdapter implements PriceHistoryMaintenanceRepository {
+    public static final String RAW_TABLE = "steam_price_history";
+    public static final String HOURLY_TABLE = "steam_price_history_hourly";
+    public static final String DAILY_TABLE = "steam_price_history_daily";
+    // Former plain table, attached as the partition of everything before the first monthly partition
+    public static final String LEGACY_TABLE = RAW_TABLE + "_legacy";
+
+    private static final String PARTITION_PREFIX = RAW_TABLE + "_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('(\\d{4}-\\d{2})-01");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid " +
+                "WHERE c.relname = ? AND pg_table_is_visible(c.oid))",
+                Boolean.class, RAW_TABLE);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    @Override
+    public int ensureMonthlyPartitions(YearMonth from, YearMonth to) {
+        List<YearMonth> existing = findRawPartitions();
+        int created = 0;
+
+        // Months before the end of the legacy partition are already covered by it
+        YearMonth first = findLegacyPartitionEnd().filter(end -> end.isAfter(from)).orElse(from);
+
+        for (YearMonth month = first; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (existing.contains(month)) {
+                continue;
+            }
+
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    partitionName(month), RAW_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+            created++;
+            log.info("Created price history partition {}", partitionName(month));
+        }
+
+        return created;
+    }
+
+    @Override
+    public List<YearMonth> findRawPartitions() {
+        return jdbcTemplate.queryForList(
+                        "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent " +
+                        "WHERE p.relname = ? AND pg_table_is_visible(p.oid)",
+                        String.class, RAW_TABLE).stream()
+                .filter(name -> name.startsWith(PARTITION_PREFIX))
+                .map(name -> YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void dropRawPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+        log.info("Dropped price history partition {}", partitionName(month));
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestRecordedAt() {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT min(recorded_at) FROM " + RAW_TABLE, Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    @Override
+    public int rollUpHourly(LocalDateTime from, LocalDateTime to) {
+        // A row counts in every hour of [recorded_at, last_confirmed_at] that falls within [from, to)
+        return jdbcTemplate.update(
+                "INSERT INTO " + HOURLY_TABLE + " (item_id, bucket_start, min_average_price, " +
+                "    max_average_price, avg_average_price, avg_last_sale_price, avg_lowest_buy_order_price, sample_count) " +
+                "SELECT h.item_id, b.bucket_start, min(h.average_price), max(h.average_price), " +
+                "       avg(h.average_price), avg(h.last_sale_price), avg(h.lowest_buy_order_price), count(*) " +
+                "FROM " + RAW_TABLE + " h " +
+                "CROSS JOIN LATERAL generate_series(" +
+                "    date_trunc('hour', GREATEST(h.recorded_at, ?)), " +
+                "    LEAST(h.last_confirmed_at, ?::timestamp - interval '1 microsecond'), " +
+                "    interval '1 hour') AS b(bucket_start) " +
+                "WHERE h.recorded_at < ? AND h.last_confirmed_at >= ? AND h.item_id IS NOT NULL " +
+                "GROUP BY h.item_id, b.bucket_start " +
+                ROLLUP_UPSERT,
+                Timestamp.valueOf(from), Timestamp.valueOf(to), Timestamp.valueOf(to), Timestamp.valueOf(from));
+    }
+
+    @Override
+    public int carryForwardCurrentRows(YearMonth month) {
+        // Still-current rows are split at the partition end: the copy starts the next month
+        Timestamp partitionEnd = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        return jdbcTemplate.update(
+                "INSERT INTO " + RAW_TABLE + " (item_id, skin_id, skin_name, wear, average_price, last_sale_price, " +
+                "    lowest_buy_order_price, recorded_at, last_confirmed_at, created_at) " +
+                "SELECT p.item_id, p.skin_id, p.skin_name, p.wear, p.average_price, p.last_sale_price, " +
+                "       p.lowest_buy_order_price, ?, p.last_confirmed_at, now() " +
+                "FROM " + partitionName(month) + " p " +
+                "WHERE p.last_confirmed_at >= ? " +
+                "  AND NOT EXISTS (SELECT 1 FROM " + RAW_TABLE + " n " +
+                "                  WHERE n.item_id = p.item_id AND n.recorded_at > p.recorded_at)",
+                partitionEnd, partitionEnd);
+    }
+
+    @Override
+    public int rollUpDaily(LocalDate from, LocalDate to) {
+        return jdbcTemplate.update(
+                "INSERT INTO " + DAILY_TABLE + " (item_id, bucket_start, min_average_price, " +
+                "    max_average_price, avg_average_price, avg_last_sale_price, avg_lowest_buy_order_price, sample_count) " +
+                "SELECT item_id, date_trunc('day', bucket_start), min(min_average_price), max(max_average_price), " +
+                "       sum(avg_average_price * sample_count) / sum(sample_count), " +
+                "       sum(avg_last_sale_price * sample_count) / sum(sample_count), " +
+                "       sum(avg_lowest_buy_order_price * sample_count) / sum(sample_count), " +
+                "       sum(sample_count) " +
+                "FROM " + HOURLY_TABLE + " " +
+                "WHERE bucket_start >= ? AND bucket_start < ? " +
+                "GROUP BY item_id, date_trunc('day', bucket_start) " +
+                ROLLUP_UPSERT,
+                Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+    }
+
+    @Override
+    public int deleteHourlyBefore(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM " + HOURLY_TABLE + " WHERE bucket_start < ?", Timestamp.valueOf(before));
+    }
+
+    @Override
+    public int deleteDailyBefore(LocalDate before) {
+        return jdbcTemplate.update("DELETE FROM " + DAILY_TABLE + " WHERE bucket_start < ?",
+                Timestamp.valueOf(before.atStartOfDay()));
+    }
+
+    /**
+     * First month after the legacy partition (the upper bound of its range), if it exists
+     */
+    private Optional<YearMonth> findLegacyPartitionEnd() {
+        return jdbcTemplate.queryForList(
+                        "SELECT pg_get_expr(c.relpartbound, c.oid) FROM pg_class c " +
+                        "WHERE c.relname = ? AND c.relispartition AND pg_table_is_visible(c.oid)",
+                        String.class, LEGACY_TABLE).stream()
+                .map(UPPER_BOUND::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> YearMonth.parse(matcher.group(1)))
+                .findFirst();
+    }
+
+    /**
+     * Name of the raw partition holding a month (e.g., steam_price_history_p202610)
+     */
+    public static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static final String ROLLUP_UPSERT =
+            "ON CONFLICT (item_id, bucket_start) DO UPDATE " +
+            "SET min_average_price = EXCLUDED.min_average_price, " +
+            "    max_average_price = EXCLUDED.max_average_price, " +
+            "    avg_average_price = EXCLUDED.avg_average_price, " +
+            "    avg_last_sale_price = EXCLUDED.avg_last_sale_price, " +
+            "    avg_lowest_buy_order_price = EXCLUDED.avg_lowest_buy_order_price, " +
+            "    sample_count = EXCLUDED.sample_count";
+}
@@ -0,0 +1,83 @@
+package com.thetruemarket.api.infrastructure.persistence.adapter;
+
+import com.thetruemarket.api.domain.model.PriceHistoryPoint;
+import com.thetruemarket.api.domain.repository.PriceHistorySeriesRepository;
+import com.thetruemarket.api.domain.service.ItemCatalog;
+import com.thetruemarket.api.domain.valueobject.HistoryBucket;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.thetruemarket.api.infrastructure.persistence.adapter.PriceHistoryMaintenanceRepositoryAdapter.DAILY_TABLE;
+import static com.thetruemarket.api.infrastructure.persistence.adapter.PriceHistoryMaintenanceRepositoryAdapter.HOURLY_TABLE;
+
+/**
+ * Adapter implementation of PriceHistorySeriesRepository reading the rollup tables
+ * maintained by MaintainPriceHistoryJob (no JPA entity maps them)
+ * 1h reads steam_price_history_hourly, 1d reads steam_price_history_daily and
+ * 1w aggregates the daily rollups in the database (sample-weighted averages)
+ * Rollups are keyed by item catalog ID; an item never registered has no series
+ * Implements the Adapter/Port pattern for Clean Architecture
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceHistorySeriesRepositoryAdapter implements PriceHistorySeriesRepository {
+    private static final RowMapper<PriceHistoryPoint> POINT_MAPPER = (rs, rowNum) -> PriceHistoryPoint.builder()
+            .bucketStart(rs.getTimestamp("bucket_start").toLocalDateTime())
+            .minAveragePrice(rs.getLong("min_average_price"))
+            .maxAveragePrice(rs.getLong("max_average_price"))
+            .avgAveragePrice(rs.getLong("avg_average_price"))
+            .avgLastSalePrice(rs.getLong("avg_last_sale_price"))
+            .avgLowestBuyOrderPrice(rs.getLong("avg_lowest_buy_order_price"))
+            .sampleCount(rs.getLong("sample_count"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemCatalog itemCatalog;
+
+    @Override
+    public List<PriceHistoryPoint> findSeries(String skinName, Wear wear, HistoryBucket bucket,
+                                              LocalDateTime from, LocalDateTime to) {
+        // Looking the item up must not register it
+        Optional<Integer> itemId = itemCatalog.findId(skinName, wear);
+        if (itemId.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = switch (bucket) {
+            case HOUR -> rollupSql(HOURLY_TABLE);
+            case DAY -> rollupSql(DAILY_TABLE);
+            case WEEK -> "SELECT date_trunc('week', bucket_start) AS bucket_start, " +
+                         "       min(min_average_price) AS min_average_price, " +
+                         "       max(max_average_price) AS max_average_price, " +
+                         "       round(sum(avg_average_price * sample_count) / sum(sample_count)) AS avg_average_price, " +
+                         "       round(sum(avg_last_sale_price * sample_count) / sum(sample_count)) AS avg_last_sale_price, " +
+                         "       round(sum(avg_lowest_buy_order_price * sample_count) / sum(sample_count)) AS avg_lowest_buy_order_price, " +
+                         "       sum(sample_count) AS sample_count " +
+                         "FROM " + DAILY_TABLE + " " +
+                         "WHERE item_id = ? AND bucket_start >= ? AND bucket_start < ? " +
+                         "GROUP BY date_trunc('week', bucket_start) " +
+                         "ORDER BY 1";
+        };
+
+        return jdbcTemplate.query(sql, POINT_MAPPER, itemId.get(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private static String rollupSql(String table) {
+        return "SELECT bucket_start, min_average_price, max_average_price, " +
+               "       round(avg_average_price) AS avg_average_price, " +
+               "       round(avg_last_sale_price) AS avg_last_sale_price, " +
+               "       round(avg_lowest_buy_order_price) AS avg_lowest_buy_order_price, " +
+               "       sample_count " +
+               "FROM " + table + " " +
+               "WHERE item_id = ? AND bucket_start >= ? AND bucket_start < ? " +
+               "ORDER BY bucket_start";
+    }
+}
@@ -0,0 +1,36 @@
+package com.thetruemarket.api.infrastructure.persistence.adapter;
+
+import com.thetruemarket.api.domain.repository.PriceVolatilityRepository;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import com.thetruemarket.api.infrastructure.persistence.entity.PriceVolatilityEntity;
+import com.thetruemarket.api.infrastructure.persistence.repository.PriceVolatilityJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Adapter implementation of PriceVolatilityRepository using JPA
+ * Implements the Adapter/Port pattern for Clean Architecture
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceVolatilityRepositoryAdapter implements PriceVolatilityRepository {
+    private final PriceVolatilityJpaRepository jpaRepository;
+
+    @Override
+    public Optional<Double> recordAveragePrice(String skinName, Wear wear, Long averagePrice, double smoothing) {
+        if (averagePrice == null) {
+            return findVolatility(skinName, wear);
+        }
+        return Optional.ofNullable(
+                jpaRepository.upsertAveragePrice(skinName, wear.name(), averagePrice, smoothing, LocalDateTime.now()));
+    }
+
+    @Override
+    public Optional<Double> findVolatility(String skinName, Wear wear) {
+        return jpaRepository.findBySkinNameAndWear(skinName, wear)
+                .map(PriceVolatilityEntity::getEwma);
+    }
+}
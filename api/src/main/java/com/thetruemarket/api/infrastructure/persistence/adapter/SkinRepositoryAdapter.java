@@ -1,18 +1,24 @@
 package com.thetruemarket.api.infrastructure.persistence.adapter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.thetruemarket.api.domain.model.Skin;
+import com.thetruemarket.api.domain.model.SkinFilter;
 import com.thetruemarket.api.domain.repository.SkinRepository;
-import com.thetruemarket.api.domain.valueobject.SkinStatus;
+import com.thetruemarket.api.domain.service.ItemCatalog;
 import com.thetruemarket.api.infrastructure.persistence.entity.SkinEntity;
 import com.thetruemarket.api.infrastructure.persistence.mapper.SkinMapper;
 import com.thetruemarket.api.infrastructure.persistence.repository.SkinJpaRepository;
+import com.thetruemarket.api.infrastructure.persistence.repository.SkinSpecifications;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -25,10 +31,13 @@ import java.util.stream.Collectors;
 public class SkinRepositoryAdapter implements SkinRepository {
     private final SkinJpaRepository jpaRepository;
     private final SkinMapper mapper;
+    private final ItemCatalog itemCatalog;
+    private final ObjectMapper objectMapper;
 
     @Override
     public Skin save(Skin skin) {
         SkinEntity entity = mapper.toEntity(skin);
+        entity.setItemId(itemCatalog.resolveId(skin.getName(), skin.getWear()));
         SkinEntity savedEntity = jpaRepository.save(entity);
         return mapper.toDomain(savedEntity);
     }
@@ -58,8 +67,41 @@ public class SkinRepositoryAdapter implements SkinRepository {
     }
 
     @Override
-    public List<Skin> findByStatusAndLastSeenAtBefore(SkinStatus status, LocalDateTime cutoffDate) {
-        return jpaRepository.findByStatusAndLastSeenAtBefore(status, cutoffDate).stream()
+    public List<Skin> findByFilter(SkinFilter filter) {
+        return jpaRepository.findAll(SkinSpecifications.matching(filter)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<String> markStaleAsSold(LocalDateTime cutoffDate, int chunkSize) {
+        return jpaRepository.markAvailableNotSeenSinceAsSold(cutoffDate, chunkSize);
+    }
+
+    @Override
+    public int archiveSold(LocalDateTime soldBefore, int chunkSize) {
+        return jpaRepository.archiveSoldBefore(soldBefore, chunkSize);
+    }
+
+    @Override
+    public List<Skin> findAvailableBySticker(String stickerName, String classId, int limit) {
+        // Keys follow the JSON written for Sticker (see SkinEntity.stickers)
+        Map<String, String> sticker = new LinkedHashMap<>();
+        if (stickerName != null) {
+            sticker.put("name", stickerName);
+        }
+        if (classId != null) {
+            sticker.put("classId", classId);
+        }
+
+        String stickerJson;
+        try {
+            stickerJson = objectMapper.writeValueAsString(sticker);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid sticker criteria", e);
+        }
+
+        return jpaRepository.findAvailableWithSticker(stickerJson, limit).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
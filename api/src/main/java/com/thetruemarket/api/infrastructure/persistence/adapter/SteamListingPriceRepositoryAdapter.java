@@ -0,0 +1,48 @@
+package com.thetruemarket.api.infrastructure.persistence.adapter;
+
+import com.thetruemarket.api.domain.model.SteamListingPriceSummary;
+import com.thetruemarket.api.domain.repository.SteamListingPriceRepository;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import com.thetruemarket.api.infrastructure.persistence.entity.SteamListingPriceEntity;
+import com.thetruemarket.api.infrastructure.persistence.repository.SteamListingPriceJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Adapter implementation of SteamListingPriceRepository using JPA
+ * Implements the Adapter/Port pattern for Clean Architecture
+ */
+@Component
+@RequiredArgsConstructor
+public class SteamListingPriceRepositoryAdapter implements SteamListingPriceRepository {
+    private final SteamListingPriceJpaRepository jpaRepository;
+
+    @Override
+    public SteamListingPriceSummary recordListingPrice(String skinName, Wear wear, Long priceUsd, double smoothing,
+                                                       Duration window) {
+        LocalDateTime now = LocalDateTime.now();
+        return toDomain(jpaRepository.upsertListingPrice(skinName, wear.name(), priceUsd, smoothing,
+                now.minus(window), now));
+    }
+
+    @Override
+    public Optional<SteamListingPriceSummary> findSummary(String skinName, Wear wear) {
+        return jpaRepository.findBySkinNameAndWear(skinName, wear)
+                .map(this::toDomain);
+    }
+
+    private SteamListingPriceSummary toDomain(SteamListingPriceEntity entity) {
+        return SteamListingPriceSummary.builder()
+                .skinName(entity.getSkinName())
+                .wear(entity.getWear())
+                .ewmaPrice(entity.getEwmaPrice())
+                .lastPrice(entity.getLastPrice())
+                .sampleCount(entity.getSampleCount())
+                .lastObservedAt(entity.getLastObservedAt())
+                .build();
+    }
+}
@@ -1,15 +1,22 @@
 package com.thetruemarket.api.infrastructure.persistence.adapter;
 
+import com.thetruemarket.api.domain.model.HistoryFreshness;
 import com.thetruemarket.api.domain.model.SteamPriceHistory;
 import com.thetruemarket.api.domain.repository.SteamPriceHistoryRepository;
+import com.thetruemarket.api.domain.service.ItemCatalog;
 import com.thetruemarket.api.domain.valueobject.Wear;
-import com.thetruemarket.api.infrastructure.persistence.entity.SteamPriceHistoryEntity;
 import com.thetruemarket.api.infrastructure.persistence.mapper.SteamPriceHistoryMapper;
+import com.thetruemarket.api.infrastructure.persistence.repository.HistoryFreshnessView;
 import com.thetruemarket.api.infrastructure.persistence.repository.SteamPriceHistoryJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Adapter implementation of SteamPriceHistoryRepository using JPA
@@ -20,17 +27,102 @@ import java.util.Optional;
 public class SteamPriceHistoryRepositoryAdapter implements SteamPriceHistoryRepository {
     private final SteamPriceHistoryJpaRepository jpaRepository;
     private final SteamPriceHistoryMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemCatalog itemCatalog;
 
     @Override
-    public SteamPriceHistory save(SteamPriceHistory priceHistory) {
-        SteamPriceHistoryEntity entity = mapper.toEntity(priceHistory);
-        SteamPriceHistoryEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+    public int recordAll(List<SteamPriceHistory> observations) {
+        if (observations.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        int[] itemIds = new int[observations.size()];
+        for (int i = 0; i < observations.size(); i++) {
+            itemIds[i] = itemCatalog.resolveId(observations.get(i).getSkinName(), observations.get(i).getWear());
+        }
+
+        // Step 1: one JDBC batch extending each item's latest row when its prices are unchanged
+        List<Object[]> extendArgs = new ArrayList<>(observations.size());
+        for (int i = 0; i < observations.size(); i++) {
+            SteamPriceHistory observation = observations.get(i);
+            extendArgs.add(new Object[]{
+                    observedAt(observation, now),
+                    itemIds[i],
+                    observation.getAveragePrice(),
+                    observation.getLastSalePrice(),
+                    observation.getLowestBuyOrderPrice()
+            });
+        }
+
+        int[] extended = jdbcTemplate.batchUpdate("UPDATE steam_price_history h " +
+                "SET last_confirmed_at = GREATEST(h.last_confirmed_at, ?) " +
+                "FROM (SELECT id, recorded_at FROM steam_price_history " +
+                "      WHERE item_id = ? ORDER BY recorded_at DESC LIMIT 1) latest " +
+                "WHERE h.id = latest.id AND h.recorded_at = latest.recorded_at " +
+                "  AND h.average_price = ? AND h.last_sale_price = ? AND h.lowest_buy_order_price = ?",
+                extendArgs);
+
+        // Step 2: one JDBC batch inserting the observations that changed (or are the first of their item)
+        // IDENTITY ids keep Hibernate from batching these inserts
+        List<Object[]> insertArgs = new ArrayList<>();
+        for (int i = 0; i < observations.size(); i++) {
+            if (extended[i] > 0) {
+                continue;
+            }
+
+            SteamPriceHistory observation = observations.get(i);
+            LocalDateTime observedAt = observedAt(observation, now);
+            insertArgs.add(new Object[]{
+                    itemIds[i],
+                    observation.getSkinId(),
+                    observation.getSkinName(),
+                    observation.getWear().name(),
+                    observation.getAveragePrice(),
+                    observation.getLastSalePrice(),
+                    observation.getLowestBuyOrderPrice(),
+                    observedAt,
+                    observedAt,
+                    now
+            });
+        }
+
+        if (!insertArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO steam_price_history " +
+                    "(item_id, skin_id, skin_name, wear, average_price, last_sale_price, lowest_buy_order_price, " +
+                    " recorded_at, last_confirmed_at, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", insertArgs);
+        }
+
+        return insertArgs.size();
     }
 
     @Override
     public Optional<SteamPriceHistory> findLatestBySkinNameAndWear(String skinName, Wear wear) {
-        return jpaRepository.findLatestBySkinNameAndWear(skinName, wear)
+        // An item never registered has no history; looking it up must not register it
+        return itemCatalog.findId(skinName, wear)
+                .flatMap(jpaRepository::findLatestByItemId)
                 .map(mapper::toDomain);
     }
+
+    @Override
+    public List<HistoryFreshness> findLatestFreshnessPerItem() {
+        return jpaRepository.findLatestFreshnessPerItem().stream()
+                .map(this::toFreshness)
+                .collect(Collectors.toList());
+    }
+
+    private static LocalDateTime observedAt(SteamPriceHistory observation, LocalDateTime now) {
+        return observation.getRecordedAt() != null ? observation.getRecordedAt() : now;
+    }
+
+    private HistoryFreshness toFreshness(HistoryFreshnessView view) {
+        return HistoryFreshness.builder()
+                .skinName(view.getSkinName())
+                .wear(Wear.valueOf(view.getWear()))
+                .recordedAt(view.getRecordedAt())
+                .volatility(view.getVolatility())
+                .build();
+    }
 }
@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "history_update_tasks", indexes = {
         @Index(name = "idx_status_created", columnList = "status, created_at"),
-        @Index(name = "idx_skin_name_wear_status", columnList = "skin_name, wear, status")
+        @Index(name = "idx_skin_name_wear_status", columnList = "skin_name, wear, status"),
+        @Index(name = "idx_status_finished", columnList = "status, finished_at"),
+        @Index(name = "idx_status_lease_expires", columnList = "status, lease_expires_at")
+        // Claim order index (priority DESC NULLS LAST) is created in SchemaExtensionsInitializer
 })
 @Data
 @Builder
@@ -45,6 +48,13 @@ public class HistoryUpdateTaskEntity {
     @Column(name = "wear", nullable = false, length = 50)
     private Wear wear;
 
+    /**
+     * Item catalog ID of the (name, wear) combination (see ItemEntity)
+     * Filled on write; nullable only for rows written before the catalog existed (backfilled on startup)
+     */
+    @Column(name = "item_id")
+    private Integer itemId;
+
     /**
      * Current task status
      */
@@ -64,6 +74,24 @@ public class HistoryUpdateTaskEntity {
     @Column(name = "finished_at")
     private LocalDateTime finishedAt;
 
+    /**
+     * Worker that claimed the task (null if never claimed)
+     */
+    @Column(name = "claimed_by", length = 255)
+    private String claimedBy;
+
+    /**
+     * When the current claim expires (null if not claimed)
+     */
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    /**
+     * Dispatch priority between 0 and 1; higher is claimed first (null until scored)
+     */
+    @Column(name = "priority")
+    private Double priority;
+
     @PrePersist
     protected void onCreate() {
         if (this.createdAt == null) {
@@ -0,0 +1,53 @@
+package com.thetruemarket.api.infrastructure.persistence.entity;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for the items catalog
+ * Assigns a compact integer ID to each (market name, wear) so that skins, price history
+ * and history update tasks reference an int instead of repeating the name and wear strings
+ * Infrastructure layer implementation
+ */
+@Entity
+@Table(name = "items", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_items_name_wear", columnNames = {"skin_name", "wear"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemEntity {
+    /**
+     * Auto-generated item ID
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Integer id;
+
+    /**
+     * Market name (e.g., "AK-47 | Redline")
+     */
+    @Column(name = "skin_name", nullable = false, length = 500)
+    private String skinName;
+
+    /**
+     * Wear category
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "wear", nullable = false, length = 50)
+    private Wear wear;
+
+    /**
+     * When the item was first seen
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,75 @@
+package com.thetruemarket.api.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for the job_state table
+ * One row per scheduled job, shared by every API replica (lease lock + cursor),
+ * plus one row per cluster-wide rate budget (fixed window counter)
+ * Infrastructure layer implementation
+ */
+@Entity
+@Table(name = "job_state")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStateEntity {
+    /**
+     * Unique job name (e.g., "UpdateSkinPricesJob")
+     */
+    @Id
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    /**
+     * Instance currently (or last) holding the lock
+     */
+    @Column(name = "locked_by", length = 255)
+    private String lockedBy;
+
+    /**
+     * When the lock was acquired (database clock)
+     */
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    /**
+     * Until when the lock is held (database clock); null or past means free
+     */
+    @Column(name = "lock_until")
+    private LocalDateTime lockUntil;
+
+    /**
+     * When the last run released the lock
+     */
+    @Column(name = "last_finished_at")
+    private LocalDateTime lastFinishedAt;
+
+    /**
+     * Opaque job cursor, so a job can resume where it stopped after a restart
+     */
+    @Column(name = "cursor_value", columnDefinition = "TEXT")
+    private String cursorValue;
+
+    /**
+     * Start of the current budget window (database clock); null until first used
+     */
+    @Column(name = "window_started_at")
+    private LocalDateTime windowStartedAt;
+
+    /**
+     * Units handed out in the current budget window
+     */
+    @Column(name = "window_used")
+    private Integer windowUsed;
+}
@@ -0,0 +1,70 @@
+package com.thetruemarket.api.infrastructure.persistence.entity;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for the price_volatility table
+ * One row per skin name and wear, updated each time a new Steam price is recorded
+ * Infrastructure layer implementation
+ */
+@Entity
+@Table(name = "price_volatility", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_price_volatility_name_wear", columnNames = {"skin_name", "wear"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceVolatilityEntity {
+    /**
+     * Auto-generated unique identifier
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * Skin name
+     */
+    @Column(name = "skin_name", nullable = false, length = 500)
+    private String skinName;
+
+    /**
+     * Wear category
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "wear", nullable = false, length = 50)
+    private Wear wear;
+
+    /**
+     * EWMA of the relative change of the average price (null until two prices were recorded)
+     */
+    @Column(name = "ewma")
+    private Double ewma;
+
+    /**
+     * Number of price changes folded into the EWMA
+     */
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount;
+
+    /**
+     * Last recorded average price in USD (cents)
+     */
+    @Column(name = "last_average_price", nullable = false)
+    private Long lastAveragePrice;
+
+    /**
+     * When the estimate was last updated
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
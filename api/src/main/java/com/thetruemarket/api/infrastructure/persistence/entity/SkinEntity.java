@@ -1,5 +1,6 @@
 package com.thetruemarket.api.infrastructure.persistence.entity;
 
+import com.thetruemarket.api.domain.model.Sticker;
 import com.thetruemarket.api.domain.valueobject.SkinStatus;
 import com.thetruemarket.api.domain.valueobject.Wear;
 import jakarta.persistence.*;
@@ -7,15 +8,25 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * JPA Entity for Skin persistence
  * Infrastructure layer implementation
  */
 @Entity
-@Table(name = "skins")
+@Table(name = "skins", indexes = {
+        @Index(name = "idx_skins_status_source_wear_price", columnList = "status, market_source, wear, price"),
+        @Index(name = "idx_skins_status_wear_price", columnList = "status, wear, price"),
+        @Index(name = "idx_skins_status_price", columnList = "status, price"),
+        @Index(name = "idx_skins_status_float", columnList = "status, float_value"),
+        @Index(name = "idx_skins_status_last_seen", columnList = "status, last_seen_at"),
+        @Index(name = "idx_skins_status_item", columnList = "status, item_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -55,6 +66,13 @@ public class SkinEntity {
     @Column(name = "wear", nullable = false, length = 50)
     private Wear wear;
 
+    /**
+     * Item catalog ID of the (name, wear) combination (see ItemEntity)
+     * Filled on write; nullable only for rows written before the catalog existed (backfilled on startup)
+     */
+    @Column(name = "item_id")
+    private Integer itemId;
+
     /**
      * Paint seed number
      */
@@ -69,11 +87,19 @@ public class SkinEntity {
     private Integer paintIndex;
 
     /**
-     * Number of stickers (sticker details stored separately if needed)
+     * Number of stickers
      */
     @Column(name = "sticker_count")
     private Integer stickerCount;
 
+    /**
+     * Stickers applied to the skin, stored as a JSONB array in the listing row
+     * Searched by containment (stickers @> ...) through the GIN index idx_skins_stickers_gin
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "stickers", columnDefinition = "jsonb")
+    private List<Sticker> stickers;
+
     /**
      * Market price in cents
      * Can be null if skin came without price information
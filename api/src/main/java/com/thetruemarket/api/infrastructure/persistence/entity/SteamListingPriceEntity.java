@@ -0,0 +1,70 @@
+package com.thetruemarket.api.infrastructure.persistence.entity;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for the steam_listing_prices table
+ * One row per skin name and wear, updated by every listing received on skin.market.steam
+ * Infrastructure layer implementation
+ */
+@Entity
+@Table(name = "steam_listing_prices", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_steam_listing_prices_name_wear", columnNames = {"skin_name", "wear"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SteamListingPriceEntity {
+    /**
+     * Auto-generated unique identifier
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * Skin name
+     */
+    @Column(name = "skin_name", nullable = false, length = 500)
+    private String skinName;
+
+    /**
+     * Wear category
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "wear", nullable = false, length = 50)
+    private Wear wear;
+
+    /**
+     * EWMA of the listing prices of the current window in USD (cents)
+     */
+    @Column(name = "ewma_price", nullable = false)
+    private Double ewmaPrice;
+
+    /**
+     * Latest listing price in USD (cents)
+     */
+    @Column(name = "last_price", nullable = false)
+    private Long lastPrice;
+
+    /**
+     * Number of listings folded into the EWMA since the window started
+     */
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount;
+
+    /**
+     * When a Steam listing of the item was last received
+     */
+    @Column(name = "last_observed_at", nullable = false)
+    private LocalDateTime lastObservedAt;
+}
@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "steam_price_history", indexes = {
-        @Index(name = "idx_skin_name_wear", columnList = "skin_name, wear"),
+        @Index(name = "idx_item_recorded", columnList = "item_id, recorded_at"),
         @Index(name = "idx_recorded_at", columnList = "recorded_at")
 })
 @Data
@@ -50,6 +50,13 @@ public class SteamPriceHistoryEntity {
     @Column(name = "wear", nullable = false, length = 50)
     private Wear wear;
 
+    /**
+     * Item catalog ID of the (name, wear) combination (see ItemEntity)
+     * Filled on write; nullable only for rows written before the catalog existed (backfilled on startup)
+     */
+    @Column(name = "item_id")
+    private Integer itemId;
+
     /**
      * Average price from recent Steam sales (in cents)
      */
@@ -69,11 +76,20 @@ public class SteamPriceHistoryEntity {
     private Long lowestBuyOrderPrice;
 
     /**
-     * When this price data was recorded
+     * When these prices were first recorded (start of their validity)
      */
     @Column(name = "recorded_at", nullable = false)
     private LocalDateTime recordedAt;
 
+    /**
+     * Last time a scrape observed these same prices
+     * Rows are only inserted when a price changes; unchanged scrapes move this forward.
+     * The validity of a row ends at the recorded_at of the next row of the same item.
+     * Nullable only for rows written before the column existed (backfilled on startup)
+     */
+    @Column(name = "last_confirmed_at")
+    private LocalDateTime lastConfirmedAt;
+
     /**
      * When this record was created
      */
@@ -87,5 +103,8 @@ public class SteamPriceHistoryEntity {
         if (this.recordedAt == null) {
             this.recordedAt = now;
         }
+        if (this.lastConfirmedAt == null) {
+            this.lastConfirmedAt = this.recordedAt;
+        }
     }
 }
@@ -28,6 +28,9 @@ public class HistoryUpdateTaskMapper {
                 .status(task.getStatus())
                 .createdAt(task.getCreatedAt())
                 .finishedAt(task.getFinishedAt())
+                .claimedBy(task.getClaimedBy())
+                .leaseExpiresAt(task.getLeaseExpiresAt())
+                .priority(task.getPriority())
                 .build();
     }
 
@@ -49,6 +52,9 @@ public class HistoryUpdateTaskMapper {
                 .status(entity.getStatus())
                 .createdAt(entity.getCreatedAt())
                 .finishedAt(entity.getFinishedAt())
+                .claimedBy(entity.getClaimedBy())
+                .leaseExpiresAt(entity.getLeaseExpiresAt())
+                .priority(entity.getPriority())
                 .build();
     }
 }
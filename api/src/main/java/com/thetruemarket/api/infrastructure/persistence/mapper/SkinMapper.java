@@ -30,6 +30,7 @@ public class SkinMapper {
                 .paintSeed(skin.getPaintSeed())
                 .paintIndex(skin.getPaintIndex())
                 .stickerCount(skin.getStickerCount())
+                .stickers(skin.getStickers())
                 .price(skin.getPrice())
                 .currency(skin.getCurrency())
                 .marketSource(skin.getMarketSource())
@@ -65,7 +66,7 @@ public class SkinMapper {
                 .currency(entity.getCurrency())
                 .marketSource(entity.getMarketSource())
                 .link(entity.getLink())
-                .stickers(null) // Stickers not persisted in current implementation
+                .stickers(entity.getStickers())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .lastSeenAt(entity.getLastSeenAt())
@@ -30,6 +30,7 @@ public class SteamPriceHistoryMapper {
                 .lastSalePrice(priceHistory.getLastSalePrice())
                 .lowestBuyOrderPrice(priceHistory.getLowestBuyOrderPrice())
                 .recordedAt(priceHistory.getRecordedAt())
+                .lastConfirmedAt(priceHistory.getLastConfirmedAt())
                 .createdAt(priceHistory.getCreatedAt())
                 .build();
     }
@@ -54,6 +55,7 @@ public class SteamPriceHistoryMapper {
                 .lastSalePrice(entity.getLastSalePrice())
                 .lowestBuyOrderPrice(entity.getLowestBuyOrderPrice())
                 .recordedAt(entity.getRecordedAt())
+                .lastConfirmedAt(entity.getLastConfirmedAt() != null ? entity.getLastConfirmedAt() : entity.getRecordedAt())
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,17 @@
+package com.thetruemarket.api.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the native query returning the latest price history time of every item
+ * Getter names match the column aliases of the query
+ */
+public interface HistoryFreshnessView {
+    String getSkinName();
+
+    String getWear();
+
+    LocalDateTime getRecordedAt();
+
+    Double getVolatility();
+}
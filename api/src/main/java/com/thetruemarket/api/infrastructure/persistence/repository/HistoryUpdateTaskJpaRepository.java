@@ -1,13 +1,20 @@
 package com.thetruemarket.api.infrastructure.persistence.repository;
 
 import com.thetruemarket.api.domain.valueobject.TaskStatus;
-import com.thetruemarket.api.domain.valueobject.Wear;
 import com.thetruemarket.api.infrastructure.persistence.entity.HistoryUpdateTaskEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data JPA repository for HistoryUpdateTaskEntity
@@ -23,29 +30,215 @@ public interface HistoryUpdateTaskJpaRepository extends JpaRepository<HistoryUpd
     List<HistoryUpdateTaskEntity> findByStatusOrderByCreatedAtAsc(TaskStatus status);
 
     /**
-     * Checks if a task already exists for a skin name, wear, and status combination
+     * Loads tasks and locks their rows until the end of the transaction (in ID order, so
+     * concurrent callers cannot deadlock), serializing concurrent completions of a task
      *
-     * @param skinName The skin name
-     * @param wear     The wear category
-     * @param status   The task status
-     * @return true if exists, false otherwise
+     * @param ids The task IDs
+     * @return The tasks found
      */
-    boolean existsBySkinNameAndWearAndStatus(String skinName, Wear wear, TaskStatus status);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM HistoryUpdateTaskEntity t WHERE t.id IN :ids ORDER BY t.id")
+    List<HistoryUpdateTaskEntity> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 
     /**
-     * Finds all tasks with a specific status and finished before a given date
+     * Completes in-progress tasks in one UPDATE without loading them
+     * Tasks no longer IN_PROGRESS (already completed by a duplicate result) are left untouched
      *
-     * @param status         The status to filter by
-     * @param finishedBefore The date threshold for finished_at
-     * @return List of tasks matching the criteria
+     * @param ids        The task IDs
+     * @param status     The completed status
+     * @param inProgress The in-progress status
+     * @param finishedAt Completion timestamp
+     * @return Number of tasks updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE HistoryUpdateTaskEntity t " +
+           "SET t.status = :status, t.finishedAt = :finishedAt, t.leaseExpiresAt = null " +
+           "WHERE t.id IN :ids AND t.status = :inProgress")
+    int completeAll(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") TaskStatus status,
+            @Param("inProgress") TaskStatus inProgress,
+            @Param("finishedAt") LocalDateTime finishedAt
+    );
+
+    /**
+     * Inserts a WAITING task unless an open task exists for the same item
+     * The unique partial index uk_history_update_tasks_open_item (see SchemaExtensionsInitializer)
+     * turns a concurrent duplicate into a no-op instead of a second row.
+     * Uses RETURNING, so it is declared as a (non-@Modifying) query in its own transaction.
+     *
+     * @param itemId    The item catalog ID of the skin name and wear
+     * @param skinName  The skin name
+     * @param wear      The wear category name
+     * @param priority  Dispatch priority (nullable)
+     * @param createdAt Creation timestamp
+     * @return The inserted task, empty if an open task already existed
      */
-    List<HistoryUpdateTaskEntity> findByStatusAndFinishedAtBefore(TaskStatus status, LocalDateTime finishedBefore);
+    @Transactional
+    @Query(value = "INSERT INTO history_update_tasks (item_id, skin_name, wear, status, priority, created_at) " +
+                   "VALUES (:itemId, :skinName, :wear, 'WAITING', CAST(:priority AS double precision), :createdAt) " +
+                   "ON CONFLICT DO NOTHING " +
+                   "RETURNING *",
+           nativeQuery = true)
+    Optional<HistoryUpdateTaskEntity> insertWaitingIfAbsent(
+            @Param("itemId") Integer itemId,
+            @Param("skinName") String skinName,
+            @Param("wear") String wear,
+            @Param("priority") Double priority,
+            @Param("createdAt") LocalDateTime createdAt
+    );
 
     /**
-     * Deletes all tasks with a specific status and finished before a given date
+     * Deletes up to {@code limit} tasks with a specific status finished before a given date
+     * Single set-based DELETE: no entity is loaded and each call is its own short transaction
      *
-     * @param status         The status to filter by
+     * @param status         The status name to filter by (e.g., "COMPLETED")
      * @param finishedBefore The date threshold for finished_at
+     * @param limit          Maximum number of rows deleted by this call
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM history_update_tasks " +
+                   "WHERE id IN (" +
+                   "    SELECT id FROM history_update_tasks " +
+                   "    WHERE status = :status AND finished_at < :finishedBefore " +
+                   "    LIMIT :limit" +
+                   ")",
+           nativeQuery = true)
+    int deleteChunkByStatusAndFinishedAtBefore(
+            @Param("status") String status,
+            @Param("finishedBefore") LocalDateTime finishedBefore,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Creates a WAITING task for every distinct (name, wear) among AVAILABLE skins whose
+     * latest price history is missing or expired and that has no open (WAITING or
+     * IN_PROGRESS) task yet, in one INSERT ... SELECT
+     *
+     * Each item's expiration follows HistoryExpirationPolicy:
+     * clamp(baseSeconds * targetVolatility / ewma, minSeconds, maxSeconds), baseSeconds when the
+     * item has no volatility estimate yet and maxSeconds when its price never moved.
+     * "Latest history is fresh" is checked as "some history row was confirmed within the
+     * expiration"; rows are only inserted on price changes, so the (item_id, recorded_at)
+     * index narrows this to the few rows of the item.
+     * An expired item is also skipped while live Steam listings vouch for its latest history
+     * (SteamListingPostponePolicy): listing seen since :listingSince, history confirmed since
+     * :historySince and listing EWMA within :priceTolerance of the history average price.
+     * Uses RETURNING, so it is declared as a (non-@Modifying) query in its own transaction.
+     *
+     * @param baseSeconds      Expiration of items at the target volatility or without an estimate
+     * @param minSeconds       Lower bound of the expiration
+     * @param maxSeconds       Upper bound of the expiration
+     * @param targetVolatility Volatility at which an item expires after baseSeconds
+     * @param listingSince     Oldest Steam listing that can postpone a scrape
+     * @param historySince     Oldest history confirmation that can be postponed
+     * @param priceTolerance   Relative gap allowed between listing EWMA and history average price
+     * @param now              Reference time and creation timestamp for the new tasks
+     * @return The created tasks
+     */
+    @Transactional
+    @Query(value = "INSERT INTO history_update_tasks (item_id, skin_name, wear, status, created_at) " +
+                   "SELECT DISTINCT s.item_id, s.name, s.wear, 'WAITING', :now " +
+                   "FROM skins s " +
+                   "LEFT JOIN price_volatility v ON v.skin_name = s.name AND v.wear = s.wear " +
+                   "WHERE s.status = 'AVAILABLE' " +
+                   "  AND NOT EXISTS (" +
+                   "      SELECT 1 FROM steam_price_history h " +
+                   "      WHERE h.item_id = s.item_id " +
+                   "        AND h.last_confirmed_at >= :now - make_interval(secs => LEAST(:maxSeconds, GREATEST(:minSeconds, " +
+                   "            CASE WHEN v.ewma IS NULL THEN :baseSeconds " +
+                   "                 WHEN v.ewma <= 0 THEN :maxSeconds " +
+                   "                 ELSE :baseSeconds * :targetVolatility / v.ewma END)))" +
+                   "  ) " +
+                   "  AND NOT EXISTS (" +
+                   "      SELECT 1 FROM steam_listing_prices l " +
+                   "      CROSS JOIN LATERAL (" +
+                   "          SELECT average_price, last_confirmed_at FROM steam_price_history " +
+                   "          WHERE item_id = s.item_id " +
+                   "          ORDER BY recorded_at DESC LIMIT 1" +
+                   "      ) h " +
+                   "      WHERE l.skin_name = s.name AND l.wear = s.wear " +
+                   "        AND l.last_observed_at >= :listingSince " +
+                   "        AND h.last_confirmed_at >= :historySince " +
+                   "        AND h.average_price > 0 " +
+                   "        AND abs(l.ewma_price - h.average_price) <= :priceTolerance * h.average_price" +
+                   "  ) " +
+                   "  AND NOT EXISTS (" +
+                   "      SELECT 1 FROM history_update_tasks t " +
+                   "      WHERE t.item_id = s.item_id AND t.status IN ('WAITING', 'IN_PROGRESS')" +
+                   "  ) " +
+                   "ON CONFLICT DO NOTHING " +
+                   "RETURNING *",
+           nativeQuery = true)
+    List<HistoryUpdateTaskEntity> insertWaitingForStaleAvailableSkins(
+            @Param("baseSeconds") double baseSeconds,
+            @Param("minSeconds") double minSeconds,
+            @Param("maxSeconds") double maxSeconds,
+            @Param("targetVolatility") double targetVolatility,
+            @Param("listingSince") LocalDateTime listingSince,
+            @Param("historySince") LocalDateTime historySince,
+            @Param("priceTolerance") double priceTolerance,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Claims up to {@code limit} tasks for a worker, highest priority first (oldest first on ties)
+     * Claimable tasks are WAITING ones and IN_PROGRESS ones whose lease has expired.
+     * FOR UPDATE SKIP LOCKED lets concurrent claims pick disjoint tasks without waiting.
+     *
+     * @param workerId       Identifier of the claiming worker
+     * @param now            Current time; leases expiring before it are reclaimed
+     * @param leaseExpiresAt Expiry of the new lease
+     * @param limit          Maximum number of tasks to claim
+     * @return The claimed tasks (unordered)
+     */
+    @Transactional
+    @Query(value = "UPDATE history_update_tasks " +
+                   "SET status = 'IN_PROGRESS', claimed_by = :workerId, lease_expires_at = :leaseExpiresAt " +
+                   "WHERE id IN (" +
+                   "    SELECT id FROM history_update_tasks " +
+                   "    WHERE status = 'WAITING' " +
+                   "       OR (status = 'IN_PROGRESS' AND lease_expires_at < :now) " +
+                   "    ORDER BY priority DESC NULLS LAST, created_at " +
+                   "    LIMIT :limit " +
+                   "    FOR UPDATE SKIP LOCKED" +
+                   ") RETURNING *",
+           nativeQuery = true)
+    List<HistoryUpdateTaskEntity> claim(
+            @Param("workerId") String workerId,
+            @Param("now") LocalDateTime now,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Gathers, for every open task, the inputs of its priority score in one pass:
+     * cheapest USD listing and listing count among AVAILABLE skins, and the latest Steam history
+     *
+     * @return One row per open task
      */
-    void deleteByStatusAndFinishedAtBefore(TaskStatus status, LocalDateTime finishedBefore);
+    @Query(value = "SELECT t.id AS taskId, " +
+                   "       s.best_price AS bestListingPrice, " +
+                   "       COALESCE(s.listing_count, 0) AS listingCount, " +
+                   "       h.average_price AS lastAveragePrice, " +
+                   "       h.last_confirmed_at AS lastRecordedAt " +
+                   "FROM history_update_tasks t " +
+                   "LEFT JOIN (" +
+                   "    SELECT item_id, " +
+                   "           MIN(price) FILTER (WHERE currency = 'USD') AS best_price, " +
+                   "           COUNT(*) AS listing_count " +
+                   "    FROM skins WHERE status = 'AVAILABLE' " +
+                   "    GROUP BY item_id" +
+                   ") s ON s.item_id = t.item_id " +
+                   "LEFT JOIN LATERAL (" +
+                   "    SELECT average_price, last_confirmed_at FROM steam_price_history " +
+                   "    WHERE item_id = t.item_id " +
+                   "    ORDER BY recorded_at DESC LIMIT 1" +
+                   ") h ON true " +
+                   "WHERE t.status IN ('WAITING', 'IN_PROGRESS')",
+           nativeQuery = true)
+    List<TaskPriorityInputView> findOpenTaskPriorityInputs();
 }
@@ -0,0 +1,44 @@
+package com.thetruemarket.api.infrastructure.persistence.repository;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+import com.thetruemarket.api.infrastructure.persistence.entity.ItemEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for ItemEntity
+ */
+@Repository
+public interface ItemJpaRepository extends JpaRepository<ItemEntity, Integer> {
+    /**
+     * Finds an item by market name and wear (uses the uk_items_name_wear unique key)
+     *
+     * @param skinName The market name
+     * @param wear     The wear category
+     * @return The item, if registered
+     */
+    Optional<ItemEntity> findBySkinNameAndWear(String skinName, Wear wear);
+
+    /**
+     * Returns the ID of an item, registering it first if needed, in one atomic upsert
+     * The no-op update makes RETURNING yield the existing ID on conflict.
+     * Runs in its own transaction: an ID handed to the in-memory catalog must stay
+     * committed even if the caller's transaction rolls back.
+     *
+     * @param skinName The market name
+     * @param wear     The wear category name
+     * @return The item ID
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO items (skin_name, wear, created_at) VALUES (:skinName, :wear, now()) " +
+                   "ON CONFLICT (skin_name, wear) DO UPDATE SET wear = EXCLUDED.wear " +
+                   "RETURNING id",
+           nativeQuery = true)
+    Integer upsertItem(@Param("skinName") String skinName, @Param("wear") String wear);
+}
@@ -0,0 +1,142 @@
+package com.thetruemarket.api.infrastructure.persistence.repository;
+
+import com.thetruemarket.api.infrastructure.persistence.entity.JobStateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Spring Data JPA repository for JobStateEntity
+ * Lock statements use the database clock (now()) so replicas with skewed clocks agree
+ */
+@Repository
+public interface JobStateJpaRepository extends JpaRepository<JobStateEntity, String> {
+    /**
+     * Acquires the lock in one atomic upsert: inserts the row on first use, otherwise
+     * takes it over only if the current lease is free or expired
+     *
+     * @param jobName       Unique job name
+     * @param owner         Identifier of the acquiring instance
+     * @param atMostSeconds Lease duration in seconds
+     * @return 1 if the lock was acquired, 0 otherwise
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO job_state (job_name, locked_by, locked_at, lock_until) " +
+                   "VALUES (:jobName, :owner, now(), now() + make_interval(secs => :atMostSeconds)) " +
+                   "ON CONFLICT (job_name) DO UPDATE " +
+                   "SET locked_by = EXCLUDED.locked_by, " +
+                   "    locked_at = EXCLUDED.locked_at, " +
+                   "    lock_until = EXCLUDED.lock_until " +
+                   "WHERE job_state.lock_until IS NULL OR job_state.lock_until <= now()",
+           nativeQuery = true)
+    int tryLock(
+            @Param("jobName") String jobName,
+            @Param("owner") String owner,
+            @Param("atMostSeconds") long atMostSeconds
+    );
+
+    /**
+     * Releases the lock held by the owner, keeping it until at least atLeastSeconds after acquisition
+     *
+     * @param jobName        Unique job name
+     * @param owner          Identifier of the instance holding the lock
+     * @param atLeastSeconds Minimum lock duration in seconds
+     * @return Number of rows updated (0 if the lease was already taken over)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE job_state " +
+                   "SET lock_until = GREATEST(now(), locked_at + make_interval(secs => :atLeastSeconds)), " +
+                   "    last_finished_at = now() " +
+                   "WHERE job_name = :jobName AND locked_by = :owner",
+           nativeQuery = true)
+    int unlock(
+            @Param("jobName") String jobName,
+            @Param("owner") String owner,
+            @Param("atLeastSeconds") long atLeastSeconds
+    );
+
+    /**
+     * Saves the cursor, creating the job row if needed
+     *
+     * @param jobName Unique job name
+     * @param cursor  The cursor value (nullable)
+     * @return Number of rows inserted or updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO job_state (job_name, cursor_value) VALUES (:jobName, :cursor) " +
+                   "ON CONFLICT (job_name) DO UPDATE SET cursor_value = EXCLUDED.cursor_value",
+           nativeQuery = true)
+    int saveCursor(
+            @Param("jobName") String jobName,
+            @Param("cursor") String cursor
+    );
+
+    /**
+     * Creates the row of a budget if it does not exist yet
+     *
+     * @param name Unique budget name
+     * @return 1 if the row was created, 0 if it already existed
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO job_state (job_name) VALUES (:name) ON CONFLICT (job_name) DO NOTHING",
+           nativeQuery = true)
+    int createBudget(@Param("name") String name);
+
+    /**
+     * Reserves up to requested units of a fixed-window budget in one statement
+     * The row is locked by the subquery, so concurrent replicas serialize on it; a window
+     * older than windowSeconds is restarted before reserving.
+     * Runs in its own transaction so the row lock is not held for the caller's work.
+     *
+     * @param name          Unique budget name
+     * @param requested     Units wanted
+     * @param budget        Units available per window
+     * @param windowSeconds Window length in seconds
+     * @return Units granted (0 when the window is exhausted), or null if the row does not exist
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "UPDATE job_state s " +
+                   "SET window_started_at = CASE WHEN w.expired THEN now() ELSE s.window_started_at END, " +
+                   "    window_used = w.base + LEAST(:requested, GREATEST(0, :budget - w.base)) " +
+                   "FROM (SELECT job_name, " +
+                   "             (window_started_at IS NULL " +
+                   "              OR window_started_at <= now() - make_interval(secs => :windowSeconds)) AS expired, " +
+                   "             CASE WHEN window_started_at IS NULL " +
+                   "                    OR window_started_at <= now() - make_interval(secs => :windowSeconds) " +
+                   "                  THEN 0 ELSE COALESCE(window_used, 0) END AS base " +
+                   "      FROM job_state WHERE job_name = :name FOR UPDATE) w " +
+                   "WHERE s.job_name = w.job_name " +
+                   "RETURNING s.window_used - w.base",
+           nativeQuery = true)
+    Integer acquireBudget(
+            @Param("name") String name,
+            @Param("requested") int requested,
+            @Param("budget") int budget,
+            @Param("windowSeconds") long windowSeconds
+    );
+
+    /**
+     * Gives back units reserved but not used in the current window
+     *
+     * @param name   Unique budget name
+     * @param unused Units to give back
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE job_state SET window_used = GREATEST(0, COALESCE(window_used, 0) - :unused) " +
+                   "WHERE job_name = :name",
+           nativeQuery = true)
+    int releaseBudget(
+            @Param("name") String name,
+            @Param("unused") int unused
+    );
+}
@@ -0,0 +1,67 @@
+package com.thetruemarket.api.infrastructure.persistence.repository;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+import com.thetruemarket.api.infrastructure.persistence.entity.PriceVolatilityEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for PriceVolatilityEntity
+ */
+@Repository
+public interface PriceVolatilityJpaRepository extends JpaRepository<PriceVolatilityEntity, Long> {
+    /**
+     * Finds the volatility row of a skin name and wear combination
+     *
+     * @param skinName The skin name
+     * @param wear The wear category
+     * @return Optional containing the volatility row
+     */
+    Optional<PriceVolatilityEntity> findBySkinNameAndWear(String skinName, Wear wear);
+
+    /**
+     * Folds a new average price into the EWMA in one atomic upsert, so concurrent
+     * completions of the same item never lose an update
+     * The first change seeds the EWMA directly instead of averaging it with zero.
+     * Uses RETURNING, so it is declared as a (non-@Modifying) query in its own transaction.
+     *
+     * @param skinName     The skin name
+     * @param wear         The wear category name
+     * @param averagePrice The newly recorded average price (USD cents)
+     * @param smoothing    EWMA smoothing factor
+     * @param now          Update timestamp
+     * @return The updated EWMA (null while only one price is known)
+     */
+    @Transactional
+    @Query(value = "INSERT INTO price_volatility (skin_name, wear, ewma, sample_count, last_average_price, updated_at) " +
+                   "VALUES (:skinName, :wear, NULL, 0, :averagePrice, :now) " +
+                   "ON CONFLICT (skin_name, wear) DO UPDATE " +
+                   "SET ewma = CASE " +
+                   "        WHEN price_volatility.last_average_price <= 0 THEN price_volatility.ewma " +
+                   "        WHEN price_volatility.ewma IS NULL THEN " +
+                   "            CAST(abs(EXCLUDED.last_average_price - price_volatility.last_average_price) AS double precision) " +
+                   "            / price_volatility.last_average_price " +
+                   "        ELSE :smoothing * CAST(abs(EXCLUDED.last_average_price - price_volatility.last_average_price) AS double precision) " +
+                   "            / price_volatility.last_average_price " +
+                   "            + (1 - :smoothing) * price_volatility.ewma " +
+                   "    END, " +
+                   "    sample_count = price_volatility.sample_count " +
+                   "        + CASE WHEN price_volatility.last_average_price > 0 THEN 1 ELSE 0 END, " +
+                   "    last_average_price = EXCLUDED.last_average_price, " +
+                   "    updated_at = EXCLUDED.updated_at " +
+                   "RETURNING ewma",
+           nativeQuery = true)
+    Double upsertAveragePrice(
+            @Param("skinName") String skinName,
+            @Param("wear") String wear,
+            @Param("averagePrice") Long averagePrice,
+            @Param("smoothing") double smoothing,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -1,9 +1,13 @@
 package com.thetruemarket.api.infrastructure.persistence.repository;
 
-import com.thetruemarket.api.domain.valueobject.SkinStatus;
 import com.thetruemarket.api.infrastructure.persistence.entity.SkinEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,14 +16,83 @@ import java.util.List;
  * Spring Data JPA repository for SkinEntity
  */
 @Repository
-public interface SkinJpaRepository extends JpaRepository<SkinEntity, String> {
+public interface SkinJpaRepository extends JpaRepository<SkinEntity, String>, JpaSpecificationExecutor<SkinEntity> {
     /**
-     * Finds all skins with specific status that haven't been seen since the cutoff date
-     * Spring Data JPA will automatically generate the query based on method name
+     * Marks up to {@code chunkSize} AVAILABLE skins not seen since the cutoff date as SOLD
+     * in a single set-based statement and returns the IDs it changed
+     *
+     * Uses UPDATE ... RETURNING, so it is declared as a (non-@Modifying) query and runs in
+     * its own transaction: each chunk commits on its own. FOR UPDATE SKIP LOCKED keeps
+     * concurrent sweeps and ingest writes from blocking each other.
      *
-     * @param status The skin status to filter by
      * @param cutoffDate The last seen cutoff date
-     * @return List of skin entities not seen since the cutoff date
+     * @param chunkSize Maximum number of rows updated by this call
+     * @return IDs of the skins marked as SOLD
+     */
+    @Transactional
+    @Query(value = "UPDATE skins SET status = 'SOLD', updated_at = now() " +
+                   "WHERE id IN (" +
+                   "    SELECT id FROM skins " +
+                   "    WHERE status = 'AVAILABLE' AND last_seen_at < :cutoffDate " +
+                   "    LIMIT :chunkSize " +
+                   "    FOR UPDATE SKIP LOCKED" +
+                   ") RETURNING id",
+           nativeQuery = true)
+    List<String> markAvailableNotSeenSinceAsSold(
+            @Param("cutoffDate") LocalDateTime cutoffDate,
+            @Param("chunkSize") int chunkSize
+    );
+
+    /**
+     * Moves up to {@code limit} skins SOLD before the cutoff date from skins to skins_archive
+     * in a single statement (DELETE ... RETURNING feeding the INSERT), committed on its own
+     *
+     * Columns are matched by name through a JSON round trip, so the archive does not depend on
+     * the physical column order of skins (see SkinArchiveInitializer). Selection uses the
+     * partial index idx_skins_sold_updated; FOR UPDATE SKIP LOCKED keeps concurrent writers unblocked.
+     *
+     * @param soldBefore Skins marked as SOLD (updated_at) before this date are moved
+     * @param limit Maximum number of rows moved by this call
+     * @return Number of rows moved
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "WITH moved AS (" +
+                   "    DELETE FROM skins WHERE id IN (" +
+                   "        SELECT id FROM skins " +
+                   "        WHERE status = 'SOLD' AND updated_at < :soldBefore " +
+                   "        LIMIT :limit " +
+                   "        FOR UPDATE SKIP LOCKED" +
+                   "    ) RETURNING *" +
+                   ") " +
+                   "INSERT INTO skins_archive " +
+                   "SELECT archived.* FROM moved, jsonb_populate_record(CAST(NULL AS skins_archive), " +
+                   "    to_jsonb(moved) || jsonb_build_object('archived_at', localtimestamp)) archived",
+           nativeQuery = true)
+    int archiveSoldBefore(
+            @Param("soldBefore") LocalDateTime soldBefore,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Finds AVAILABLE skins carrying a sticker matching every attribute of the given JSON object,
+     * cheapest first
+     *
+     * Containment on the JSONB array (stickers @> '[{...}]') is answered by the partial
+     * GIN index idx_skins_stickers_gin (jsonb_path_ops, AVAILABLE rows only).
+     *
+     * @param stickerJson JSON object with the sticker attributes to match (e.g. {"name": "..."})
+     * @param limit Maximum number of skins returned
+     * @return Matching AVAILABLE skins ordered by price
      */
-    List<SkinEntity> findByStatusAndLastSeenAtBefore(SkinStatus status, LocalDateTime cutoffDate);
+    @Query(value = "SELECT * FROM skins " +
+                   "WHERE status = 'AVAILABLE' " +
+                   "AND stickers @> jsonb_build_array(CAST(:stickerJson AS jsonb)) " +
+                   "ORDER BY price NULLS LAST, id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<SkinEntity> findAvailableWithSticker(
+            @Param("stickerJson") String stickerJson,
+            @Param("limit") int limit
+    );
 }
@@ -0,0 +1,88 @@
+package com.thetruemarket.api.infrastructure.persistence.repository;
+
+import com.thetruemarket.api.domain.model.SkinFilter;
+import com.thetruemarket.api.infrastructure.persistence.entity.SkinEntity;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * JPA Specifications translating a domain SkinFilter into SQL predicates
+ * Only the criteria present in the filter become predicates, so PostgreSQL can
+ * pick the matching composite index declared on SkinEntity
+ */
+public final class SkinSpecifications {
+
+    private SkinSpecifications() {
+    }
+
+    /**
+     * Builds a specification matching every criterion present in the filter
+     *
+     * @param filter The domain filter (null matches all skins)
+     * @return Specification combining the present criteria with AND
+     */
+    public static Specification<SkinEntity> matching(SkinFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter == null) {
+                return cb.conjunction();
+            }
+
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+
+            if (filter.getMarketSources() != null && !filter.getMarketSources().isEmpty()) {
+                // Bots publish the store name in lower case (e.g., "bitskins")
+                List<String> sources = filter.getMarketSources().stream()
+                        .map(source -> source.trim().toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toList());
+                predicates.add(root.get("marketSource").in(sources));
+            }
+
+            if (filter.getWears() != null && !filter.getWears().isEmpty()) {
+                predicates.add(root.get("wear").in(filter.getWears()));
+            }
+
+            if (filter.getMinPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("price"), filter.getMinPrice()));
+            }
+
+            if (filter.getMaxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), filter.getMaxPrice()));
+            }
+
+            if (filter.getMinFloat() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("floatValue"), filter.getMinFloat()));
+            }
+
+            if (filter.getMaxFloat() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("floatValue"), filter.getMaxFloat()));
+            }
+
+            if (filter.getNameQuery() != null && !filter.getNameQuery().isBlank()) {
+                // lower(name) LIKE '%...%' is served by the trigram index on lower(name)
+                String pattern = "%" + escapeLike(filter.getNameQuery().trim().toLowerCase(Locale.ROOT)) + "%";
+                predicates.add(cb.like(cb.lower(root.get("name")), pattern, '\\'));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Escapes LIKE wildcards so user input is matched literally
+     */
+    private static String escapeLike(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
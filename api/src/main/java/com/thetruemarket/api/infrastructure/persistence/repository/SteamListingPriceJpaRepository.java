@@ -0,0 +1,66 @@
+package com.thetruemarket.api.infrastructure.persistence.repository;
+
+import com.thetruemarket.api.domain.valueobject.Wear;
+import com.thetruemarket.api.infrastructure.persistence.entity.SteamListingPriceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for SteamListingPriceEntity
+ */
+@Repository
+public interface SteamListingPriceJpaRepository extends JpaRepository<SteamListingPriceEntity, Long> {
+    /**
+     * Finds the listing price summary of a skin name and wear combination
+     *
+     * @param skinName The skin name
+     * @param wear The wear category
+     * @return Optional containing the summary row
+     */
+    Optional<SteamListingPriceEntity> findBySkinNameAndWear(String skinName, Wear wear);
+
+    /**
+     * Folds a Steam listing price into the item's summary in one atomic upsert
+     * A summary last observed before windowStart is reseeded with the new price instead of
+     * being averaged with prices that no longer describe the market.
+     * Uses RETURNING, so it is declared as a (non-@Modifying) query in its own transaction.
+     *
+     * @param skinName    The skin name
+     * @param wear        The wear category name
+     * @param price       The listing price (USD cents)
+     * @param smoothing   EWMA smoothing factor
+     * @param windowStart Summaries last observed before this instant are reseeded
+     * @param now         Observation timestamp
+     * @return The updated summary
+     */
+    @Transactional
+    @Query(value = "INSERT INTO steam_listing_prices (skin_name, wear, ewma_price, last_price, sample_count, last_observed_at) " +
+                   "VALUES (:skinName, :wear, CAST(:price AS double precision), :price, 1, :now) " +
+                   "ON CONFLICT (skin_name, wear) DO UPDATE " +
+                   "SET ewma_price = CASE " +
+                   "        WHEN steam_listing_prices.last_observed_at < :windowStart THEN EXCLUDED.ewma_price " +
+                   "        ELSE :smoothing * EXCLUDED.ewma_price + (1 - :smoothing) * steam_listing_prices.ewma_price " +
+                   "    END, " +
+                   "    sample_count = CASE " +
+                   "        WHEN steam_listing_prices.last_observed_at < :windowStart THEN 1 " +
+                   "        ELSE steam_listing_prices.sample_count + 1 " +
+                   "    END, " +
+                   "    last_price = EXCLUDED.last_price, " +
+                   "    last_observed_at = GREATEST(steam_listing_prices.last_observed_at, EXCLUDED.last_observed_at) " +
+                   "RETURNING *",
+           nativeQuery = true)
+    SteamListingPriceEntity upsertListingPrice(
+            @Param("skinName") String skinName,
+            @Param("wear") String wear,
+            @Param("price") Long price,
+            @Param("smoothing") double smoothing,
+            @Param("windowStart") LocalDateTime windowStart,
+            @Param("now") LocalDateTime now
+    );
+}
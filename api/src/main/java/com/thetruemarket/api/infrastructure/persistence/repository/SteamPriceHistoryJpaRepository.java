@@ -1,12 +1,12 @@
 package com.thetruemarket.api.infrastructure.persistence.repository;
 
-import com.thetruemarket.api.domain.valueobject.Wear;
 import com.thetruemarket.api.infrastructure.persistence.entity.SteamPriceHistoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,17 +15,27 @@ import java.util.Optional;
 @Repository
 public interface SteamPriceHistoryJpaRepository extends JpaRepository<SteamPriceHistoryEntity, Long> {
     /**
-     * Finds the most recent price history for a specific skin name and wear combination
+     * Finds the most recent price history of an item (answered by idx_item_recorded)
      *
-     * @param skinName The skin name
-     * @param wear The wear category
+     * @param itemId The item catalog ID of the skin name and wear
      * @return Optional containing the most recent price history
      */
     @Query("SELECT sph FROM SteamPriceHistoryEntity sph " +
-           "WHERE sph.skinName = :skinName AND sph.wear = :wear " +
+           "WHERE sph.itemId = :itemId " +
            "ORDER BY sph.recordedAt DESC LIMIT 1")
-    Optional<SteamPriceHistoryEntity> findLatestBySkinNameAndWear(
-            @Param("skinName") String skinName,
-            @Param("wear") Wear wear
-    );
+    Optional<SteamPriceHistoryEntity> findLatestByItemId(@Param("itemId") Integer itemId);
+
+    /**
+     * Returns the latest confirmation time and current volatility of every (skin name, wear)
+     * with price history, in one aggregate query (used to warm up in-memory caches)
+     *
+     * @return One row per item
+     */
+    @Query(value = "SELECT h.skin_name AS skinName, h.wear AS wear, " +
+                   "       max(h.last_confirmed_at) AS recordedAt, v.ewma AS volatility " +
+                   "FROM steam_price_history h " +
+                   "LEFT JOIN price_volatility v ON v.skin_name = h.skin_name AND v.wear = h.wear " +
+                   "GROUP BY h.skin_name, h.wear, v.ewma",
+           nativeQuery = true)
+    List<HistoryFreshnessView> findLatestFreshnessPerItem();
 }
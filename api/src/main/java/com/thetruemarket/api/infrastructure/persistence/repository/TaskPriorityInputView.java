@@ -0,0 +1,19 @@
+package com.thetruemarket.api.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the native query gathering the priority inputs of open history update tasks
+ * Getter names match the column aliases of the query
+ */
+public interface TaskPriorityInputView {
+    Long getTaskId();
+
+    Long getBestListingPrice();
+
+    Long getListingCount();
+
+    Long getLastAveragePrice();
+
+    LocalDateTime getLastRecordedAt();
+}
@@ -0,0 +1,9 @@
+package com.thetruemarket.api.infrastructure.persistence.routing;
+
+/**
+ * Target of a routed connection
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
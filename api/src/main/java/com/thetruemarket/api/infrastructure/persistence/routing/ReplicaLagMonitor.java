@@ -0,0 +1,130 @@
+package com.thetruemarket.api.infrastructure.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Staleness guard of the read replica
+ *
+ * Measures how far the replica is behind the primary on a fixed delay and lets
+ * ReplicaRoutingDataSource use it only while it is streaming and no further behind than
+ * the configured maximum. Runs on every instance (not a cluster-locked job).
+ *
+ * Lag is measured against the primary, not against what the replica happened to receive:
+ * each check samples the primary's current WAL position, and the replica's lag is the age of
+ * the newest sample it has replayed. An idle primary stays at the same position, so a caught-up
+ * replica reads as up to date; a replica whose WAL receiver is disconnected stops replaying,
+ * so its lag grows with the primary's writes. Lag is rounded up to the check interval.
+ *
+ * The replica role needs pg_read_all_stats (or pg_monitor) to see pg_stat_wal_receiver.status;
+ * without it the replica never counts as streaming and reads stay on the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final String PRIMARY_QUERY = "SELECT pg_current_wal_lsn()::text";
+    private static final String REPLICA_QUERY =
+            "SELECT pg_is_in_recovery() AS in_recovery, " +
+            "       (SELECT status FROM pg_stat_wal_receiver) AS receiver_status, " +
+            "       pg_last_wal_replay_lsn()::text AS replay_lsn";
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+
+    // Primary WAL positions of the checks within maxLag, oldest first (scheduler thread only)
+    private final Deque<WalSample> primarySamples = new ArrayDeque<>();
+
+    // Unusable until the first successful check
+    private volatile boolean replicaUsable = false;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, Duration maxLag) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            Duration lag = measureLag(Instant.now());
+            usable = lag != null && lag.compareTo(maxLag) <= 0;
+            if (!usable) {
+                log.debug("Replica lag {} above the maximum of {} or replica not streaming",
+                        lag != null ? lag : "unknown", maxLag);
+            }
+        } catch (Exception e) {
+            usable = false;
+            log.debug("Replica lag check failed: {}", e.getMessage());
+        }
+
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Read replica usable, read-only transactions routed to it");
+            } else {
+                log.warn("Read replica unreachable, not streaming or lagging more than {}, read-only transactions routed to the primary", maxLag);
+            }
+        }
+        replicaUsable = usable;
+    }
+
+    /**
+     * @return true if read-only transactions may use the replica
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Samples the primary, then finds the newest sample the replica has replayed
+     *
+     * @return Lag of the replica, or null if it is not streaming or is behind every sample kept
+     */
+    private Duration measureLag(Instant now) {
+        long primaryLsn = parseLsn(primaryJdbcTemplate.queryForObject(PRIMARY_QUERY, String.class));
+        primarySamples.addLast(new WalSample(primaryLsn, now));
+        primarySamples.removeIf(sample -> sample.sampledAt().isBefore(now.minus(maxLag)));
+
+        ReplicaState replica = replicaJdbcTemplate.queryForObject(REPLICA_QUERY, (rs, rowNum) -> new ReplicaState(
+                rs.getBoolean("in_recovery"), rs.getString("receiver_status"), rs.getString("replay_lsn")));
+        if (replica == null || !replica.inRecovery()) {
+            // Not a standby (e.g., the URL points at the primary itself): always current
+            return Duration.ZERO;
+        }
+        if (!"streaming".equals(replica.receiverStatus()) || replica.replayLsn() == null) {
+            return null;
+        }
+
+        long replayLsn = parseLsn(replica.replayLsn());
+        Iterator<WalSample> newestFirst = primarySamples.descendingIterator();
+        while (newestFirst.hasNext()) {
+            WalSample sample = newestFirst.next();
+            if (Long.compareUnsigned(replayLsn, sample.lsn()) >= 0) {
+                return Duration.between(sample.sampledAt(), now);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts a pg_lsn text (e.g., 16/B374D848) to its 64-bit position
+     */
+    private static long parseLsn(String lsn) {
+        int slash = lsn.indexOf('/');
+        return (Long.parseLong(lsn.substring(0, slash), 16) << 32) | Long.parseLong(lsn.substring(slash + 1), 16);
+    }
+
+    private record WalSample(long lsn, Instant sampledAt) {
+    }
+
+    private record ReplicaState(boolean inRecovery, String receiverStatus, String replayLsn) {
+    }
+}
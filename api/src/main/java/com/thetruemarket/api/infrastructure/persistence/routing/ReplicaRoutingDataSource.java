@@ -0,0 +1,37 @@
+package com.thetruemarket.api.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * DataSource sending read-only transactions to the replica and everything else to the primary
+ *
+ * - @Transactional(readOnly = true) goes to the replica while ReplicaLagMonitor reports it
+ *   reachable and within the allowed lag, otherwise to the primary
+ * - Writes, read-write transactions and code running outside a transaction use the primary
+ *
+ * The decision is taken when the physical connection is fetched, so this DataSource must be
+ * wrapped in a LazyConnectionDataSourceProxy: the transaction manager opens the connection
+ * before the read-only flag of the transaction is published.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isReplicaUsable()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+}
@@ -0,0 +1,221 @@
+package com.thetruemarket.api.infrastructure.persistence.schema;
+
+import com.thetruemarket.api.domain.repository.PriceHistoryMaintenanceRepository;
+import com.thetruemarket.api.infrastructure.config.HistoryRetentionConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.List;
+
+import static com.thetruemarket.api.infrastructure.persistence.adapter.PriceHistoryMaintenanceRepositoryAdapter.DAILY_TABLE;
+import static com.thetruemarket.api.infrastructure.persistence.adapter.PriceHistoryMaintenanceRepositoryAdapter.HOURLY_TABLE;
+import static com.thetruemarket.api.infrastructure.persistence.adapter.PriceHistoryMaintenanceRepositoryAdapter.LEGACY_TABLE;
+import static com.thetruemarket.api.infrastructure.persistence.adapter.PriceHistoryMaintenanceRepositoryAdapter.RAW_TABLE;
+
+/**
+ * Prepares the storage of Steam price history on startup
+ *
+ * - Creates the hourly and daily rollup tables (no JPA entity maps them), keyed by item_id;
+ *   tables from before the item catalog are re-keyed once
+ * - When partitioning is enabled and steam_price_history is still a plain table, converts it
+ *   once into a table range-partitioned by month on recorded_at; the plain table becomes the
+ *   partition holding every existing row (steam_price_history_legacy), nothing is copied
+ * - Creates the monthly partitions up to the configured number of months ahead
+ *
+ * Runs right after Hibernate has created/updated the tables (depends on the EntityManagerFactory).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceHistoryStorageInitializer {
+    private static final String ID_SEQUENCE = RAW_TABLE + "_id_seq";
+    private static final String LEGACY_RANGE_CHECK = LEGACY_TABLE + "_range";
+    private static final String LEGACY_KEY_INDEX = LEGACY_TABLE + "_id_recorded";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PriceHistoryMaintenanceRepository maintenanceRepository;
+    private final HistoryRetentionConfig retentionConfig;
+
+    // Injected only to guarantee Hibernate schema update has already run
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void initialize() {
+        createRollupTables();
+
+        if (!retentionConfig.isPartitioningEnabled()) {
+            return;
+        }
+
+        try {
+            if (!maintenanceRepository.isPartitioned()) {
+                YearMonth legacyEnd = prepareLegacyPartition();
+                transactionTemplate.executeWithoutResult(status -> attachAsPartition(legacyEnd));
+            }
+
+            YearMonth current = YearMonth.now();
+            maintenanceRepository.ensureMonthlyPartitions(current, current.plusMonths(retentionConfig.getPartitionsAhead()));
+        } catch (Exception e) {
+            log.error("Could not partition {}, raw history stays in a plain table: {}", RAW_TABLE, e.getMessage(), e);
+            undoLegacyPreparation();
+        }
+    }
+
+    private void createRollupTables() {
+        for (String table : List.of(HOURLY_TABLE, DAILY_TABLE)) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " (" +
+                    "item_id integer NOT NULL, " +
+                    "bucket_start timestamp(6) NOT NULL, " +
+                    "min_average_price bigint NOT NULL, " +
+                    "max_average_price bigint NOT NULL, " +
+                    "avg_average_price double precision NOT NULL, " +
+                    "avg_last_sale_price double precision NOT NULL, " +
+                    "avg_lowest_buy_order_price double precision NOT NULL, " +
+                    "sample_count bigint NOT NULL, " +
+                    "PRIMARY KEY (item_id, bucket_start))");
+            if (isKeyedBySkinName(table)) {
+                transactionTemplate.executeWithoutResult(status -> rekeyOnItemId(table));
+            }
+            // Retention deletes by bucket only
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_bucket ON " + table + " (bucket_start)");
+        }
+    }
+
+    private boolean isKeyedBySkinName(String table) {
+        Boolean keyedBySkinName = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND table_name = ? AND column_name = 'skin_name')",
+                Boolean.class, table);
+        return Boolean.TRUE.equals(keyedBySkinName);
+    }
+
+    /**
+     * Moves a rollup table created before the item catalog from (skin_name, wear, bucket_start)
+     * to (item_id, bucket_start), registering its items the same way as the other tables
+     * (see SchemaExtensionsInitializer). Runs once, in one transaction.
+     */
+    private void rekeyOnItemId(String table) {
+        long start = System.currentTimeMillis();
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN IF NOT EXISTS item_id integer");
+        jdbcTemplate.execute("INSERT INTO items (skin_name, wear, created_at) " +
+                "SELECT DISTINCT skin_name, wear, now() FROM " + table + " WHERE item_id IS NULL " +
+                "ON CONFLICT (skin_name, wear) DO NOTHING");
+        jdbcTemplate.execute("UPDATE " + table + " r SET item_id = i.id FROM items i " +
+                "WHERE r.item_id IS NULL AND i.skin_name = r.skin_name AND i.wear = r.wear");
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP CONSTRAINT IF EXISTS " + table + "_pkey");
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN item_id SET NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD PRIMARY KEY (item_id, bucket_start)");
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP COLUMN skin_name, DROP COLUMN wear");
+
+        log.info("Keyed {} on item_id in {} ms", table, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Prepares the plain table to become the first partition, without blocking reads or writes
+     *
+     * - A CHECK constraint proving the partition bound, added NOT VALID then validated
+     *   (the validation scan only takes a SHARE UPDATE EXCLUSIVE lock), lets ATTACH PARTITION
+     *   skip its own scan under the exclusive lock
+     * - The unique index on (id, recorded_at) for the partitioned primary key is built concurrently
+     *
+     * @return First month not covered by the legacy partition
+     */
+    private YearMonth prepareLegacyPartition() {
+        Timestamp newest = jdbcTemplate.queryForObject("SELECT max(recorded_at) FROM " + RAW_TABLE, Timestamp.class);
+        YearMonth current = YearMonth.now();
+        YearMonth legacyEnd = (newest != null ? max(monthOf(newest), current) : current).plusMonths(1);
+
+        jdbcTemplate.execute("ALTER TABLE " + RAW_TABLE + " DROP CONSTRAINT IF EXISTS " + LEGACY_RANGE_CHECK);
+        jdbcTemplate.execute("ALTER TABLE " + RAW_TABLE + " ADD CONSTRAINT " + LEGACY_RANGE_CHECK +
+                " CHECK (recorded_at IS NOT NULL AND recorded_at < '" + legacyEnd.atDay(1) + "') NOT VALID");
+        jdbcTemplate.execute("ALTER TABLE " + RAW_TABLE + " VALIDATE CONSTRAINT " + LEGACY_RANGE_CHECK);
+
+        // A previous failed attempt may have left an invalid index behind
+        jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + LEGACY_KEY_INDEX);
+        jdbcTemplate.execute("CREATE UNIQUE INDEX CONCURRENTLY " + LEGACY_KEY_INDEX + " ON " + RAW_TABLE + " (id, recorded_at)");
+
+        return legacyEnd;
+    }
+
+    /**
+     * Swaps the plain table for a partitioned one and attaches the plain table as its partition
+     * covering everything before legacyEnd, in one transaction of catalog-only statements
+     * (no row is copied, so the exclusive lock is held for milliseconds whatever the table size)
+     *
+     * PostgreSQL does not allow identity columns on partitioned tables, so the id is backed by
+     * a sequence default instead (inserts without an id keep working), and the primary key must
+     * include the partition key: (id, recorded_at).
+     */
+    private void attachAsPartition(YearMonth legacyEnd) {
+        long start = System.currentTimeMillis();
+
+        jdbcTemplate.execute("LOCK TABLE " + RAW_TABLE + " IN ACCESS EXCLUSIVE MODE");
+        Long maxId = jdbcTemplate.queryForObject("SELECT coalesce(max(id), 0) FROM " + RAW_TABLE, Long.class);
+
+        // Free the names the partitioned table uses: the primary key moves to (id, recorded_at)
+        // and the legacy indexes are renamed, then adopted by the partitioned indexes below
+        for (String primaryKey : jdbcTemplate.queryForList(
+                "SELECT conname FROM pg_constraint WHERE conrelid = ?::regclass AND contype = 'p'",
+                String.class, RAW_TABLE)) {
+            jdbcTemplate.execute("ALTER TABLE " + RAW_TABLE + " DROP CONSTRAINT " + primaryKey);
+        }
+        jdbcTemplate.execute("ALTER TABLE " + RAW_TABLE + " ADD CONSTRAINT " + LEGACY_TABLE + "_pkey " +
+                "PRIMARY KEY USING INDEX " + LEGACY_KEY_INDEX);
+        jdbcTemplate.execute("ALTER INDEX IF EXISTS idx_item_recorded RENAME TO idx_item_recorded_legacy");
+        jdbcTemplate.execute("ALTER INDEX IF EXISTS idx_recorded_at RENAME TO idx_recorded_at_legacy");
+
+        jdbcTemplate.execute("ALTER TABLE " + RAW_TABLE + " RENAME TO " + LEGACY_TABLE);
+        jdbcTemplate.execute("ALTER TABLE " + LEGACY_TABLE + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+        jdbcTemplate.execute("CREATE TABLE " + RAW_TABLE + " (LIKE " + LEGACY_TABLE + ") PARTITION BY RANGE (recorded_at)");
+
+        jdbcTemplate.execute("CREATE SEQUENCE " + ID_SEQUENCE + " START WITH " + (maxId + 1));
+        jdbcTemplate.execute("ALTER TABLE " + RAW_TABLE + " ALTER COLUMN id SET DEFAULT nextval('" + ID_SEQUENCE + "')");
+        jdbcTemplate.execute("ALTER SEQUENCE " + ID_SEQUENCE + " OWNED BY " + RAW_TABLE + ".id");
+
+        // Validation is skipped: the CHECK constraint already proves the bound
+        jdbcTemplate.execute("ALTER TABLE " + RAW_TABLE + " ATTACH PARTITION " + LEGACY_TABLE +
+                " FOR VALUES FROM (MINVALUE) TO ('" + legacyEnd.atDay(1) + "')");
+        jdbcTemplate.execute("ALTER TABLE " + LEGACY_TABLE + " DROP CONSTRAINT " + LEGACY_RANGE_CHECK);
+
+        // Each partitioned index adopts the matching legacy index instead of building a new one
+        jdbcTemplate.execute("ALTER TABLE " + RAW_TABLE + " ADD PRIMARY KEY (id, recorded_at)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_item_recorded ON " + RAW_TABLE + " (item_id, recorded_at)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_recorded_at ON " + RAW_TABLE + " (recorded_at)");
+
+        log.info("Converted {} into a monthly partitioned table in {} ms; existing rows stay in partition {} (before {})",
+                RAW_TABLE, System.currentTimeMillis() - start, LEGACY_TABLE, legacyEnd.atDay(1));
+    }
+
+    /**
+     * Removes what prepareLegacyPartition added if the table is still plain: its range CHECK
+     * would otherwise reject rows recorded past the planned partition bound
+     */
+    private void undoLegacyPreparation() {
+        try {
+            if (!maintenanceRepository.isPartitioned()) {
+                jdbcTemplate.execute("ALTER TABLE " + RAW_TABLE + " DROP CONSTRAINT IF EXISTS " + LEGACY_RANGE_CHECK);
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + LEGACY_KEY_INDEX);
+            }
+        } catch (Exception e) {
+            log.error("Could not remove the partitioning preparation of {}: {}", RAW_TABLE, e.getMessage(), e);
+        }
+    }
+
+    private static YearMonth monthOf(Object timestamp) {
+        return YearMonth.from(((Timestamp) timestamp).toLocalDateTime());
+    }
+
+    private static YearMonth max(YearMonth a, YearMonth b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
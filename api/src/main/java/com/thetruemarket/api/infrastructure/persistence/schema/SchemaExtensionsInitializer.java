@@ -0,0 +1,110 @@
+package com.thetruemarket.api.infrastructure.persistence.schema;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Applies PostgreSQL-specific schema objects that JPA annotations cannot express
+ * (extensions, expression indexes, partial indexes, ...)
+ *
+ * Runs right after Hibernate has created/updated the tables (depends on the
+ * EntityManagerFactory) and every statement is idempotent, so it is safe on every startup.
+ * A failing statement is logged and skipped: these objects only speed queries up.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaExtensionsInitializer {
+    private final JdbcTemplate jdbcTemplate;
+
+    // Injected only to guarantee Hibernate schema update has already run
+    private final EntityManagerFactory entityManagerFactory;
+
+    private static final List<String> STATEMENTS = List.of(
+            // Trigram index for case-insensitive substring search on skin names
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_skins_name_trgm ON skins USING gin (lower(name) gin_trgm_ops)",
+            // Superseded by the history index on (skin_name, wear, recorded_at), itself replaced by idx_item_recorded
+            "DROP INDEX IF EXISTS idx_skin_name_wear",
+            // Rows written before change-only history storage were confirmed only when recorded
+            "UPDATE steam_price_history SET last_confirmed_at = recorded_at WHERE last_confirmed_at IS NULL",
+            // Hibernate generated this CHECK from the TaskStatus values known when the table was
+            // created (WAITING, COMPLETED) and ddl-auto=update never refreshes it: recreate it
+            // with IN_PROGRESS, which claims and the open-task index below rely on
+            "ALTER TABLE history_update_tasks DROP CONSTRAINT IF EXISTS history_update_tasks_status_check",
+            "ALTER TABLE history_update_tasks ADD CONSTRAINT history_update_tasks_status_check " +
+                    "CHECK (status IN ('WAITING', 'IN_PROGRESS', 'COMPLETED'))",
+            // Claim order (HistoryUpdateTaskJpaRepository.claim): priority DESC NULLS LAST, created_at over
+            // open tasks; replaces the JPA index whose plain DESC sorted unscored tasks first
+            "DROP INDEX IF EXISTS idx_status_priority_created",
+            "CREATE INDEX IF NOT EXISTS idx_history_update_tasks_claim_order ON history_update_tasks " +
+                    "(priority DESC NULLS LAST, created_at) WHERE status IN ('WAITING', 'IN_PROGRESS')",
+            // Item catalog: register the (name, wear) of rows written before it and fill their item_id.
+            // Every write path sets item_id now, so the partial indexes stay empty and, once the
+            // backfill is done, each EXISTS check is an empty index probe instead of a table scan
+            "CREATE INDEX IF NOT EXISTS idx_skins_item_id_missing ON skins (id) WHERE item_id IS NULL",
+            "CREATE INDEX IF NOT EXISTS idx_steam_price_history_item_id_missing ON steam_price_history (id) " +
+                    "WHERE item_id IS NULL",
+            "CREATE INDEX IF NOT EXISTS idx_history_update_tasks_item_id_missing ON history_update_tasks (id) " +
+                    "WHERE item_id IS NULL",
+            "DO $$ BEGIN IF EXISTS (SELECT 1 FROM skins WHERE item_id IS NULL) THEN " +
+                    "INSERT INTO items (skin_name, wear, created_at) " +
+                    "SELECT DISTINCT name, wear, now() FROM skins WHERE item_id IS NULL " +
+                    "ON CONFLICT (skin_name, wear) DO NOTHING; " +
+                    "UPDATE skins s SET item_id = i.id FROM items i " +
+                    "WHERE s.item_id IS NULL AND i.skin_name = s.name AND i.wear = s.wear; " +
+                    "END IF; END $$",
+            "DO $$ BEGIN IF EXISTS (SELECT 1 FROM steam_price_history WHERE item_id IS NULL) THEN " +
+                    "INSERT INTO items (skin_name, wear, created_at) " +
+                    "SELECT DISTINCT skin_name, wear, now() FROM steam_price_history WHERE item_id IS NULL " +
+                    "ON CONFLICT (skin_name, wear) DO NOTHING; " +
+                    "UPDATE steam_price_history h SET item_id = i.id FROM items i " +
+                    "WHERE h.item_id IS NULL AND i.skin_name = h.skin_name AND i.wear = h.wear; " +
+                    "END IF; END $$",
+            "DO $$ BEGIN IF EXISTS (SELECT 1 FROM history_update_tasks WHERE item_id IS NULL) THEN " +
+                    "INSERT INTO items (skin_name, wear, created_at) " +
+                    "SELECT DISTINCT skin_name, wear, now() FROM history_update_tasks WHERE item_id IS NULL " +
+                    "ON CONFLICT (skin_name, wear) DO NOTHING; " +
+                    "UPDATE history_update_tasks t SET item_id = i.id FROM items i " +
+                    "WHERE t.item_id IS NULL AND i.skin_name = t.skin_name AND i.wear = t.wear; " +
+                    "END IF; END $$",
+            // At most one open task per item, once every task has its item_id; duplicates left by the
+            // former check-then-insert are removed first (the oldest task is kept). The new index is
+            // built before the (skin_name, wear) one it replaces is dropped
+            "DELETE FROM history_update_tasks t USING history_update_tasks d " +
+                    "WHERE t.status IN ('WAITING', 'IN_PROGRESS') AND d.status IN ('WAITING', 'IN_PROGRESS') " +
+                    "AND t.item_id = d.item_id AND t.id > d.id",
+            "CREATE UNIQUE INDEX IF NOT EXISTS uk_history_update_tasks_open_item " +
+                    "ON history_update_tasks (item_id) WHERE status IN ('WAITING', 'IN_PROGRESS')",
+            "DROP INDEX IF EXISTS uk_history_update_tasks_open",
+            // Superseded by idx_item_recorded (item_id, recorded_at)
+            "DROP INDEX IF EXISTS idx_skin_name_wear_recorded",
+            // Sticker containment search (stickers @> '[{"name": ...}]') over live listings only
+            "CREATE INDEX IF NOT EXISTS idx_skins_stickers_gin ON skins USING gin (stickers jsonb_path_ops) " +
+                    "WHERE status = 'AVAILABLE'",
+            // Selection of SOLD skins due for the archive (see SkinJpaRepository.archiveSoldBefore)
+            "CREATE INDEX IF NOT EXISTS idx_skins_sold_updated ON skins (updated_at) WHERE status = 'SOLD'"
+    );
+
+    @PostConstruct
+    public void apply() {
+        int applied = 0;
+
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+                applied++;
+            } catch (Exception e) {
+                log.warn("Could not apply schema statement [{}]: {}", statement, e.getMessage());
+            }
+        }
+
+        log.info("Applied {}/{} schema extension statements", applied, STATEMENTS.size());
+    }
+}
@@ -0,0 +1,78 @@
+package com.thetruemarket.api.infrastructure.persistence.schema;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prepares skins_archive, the cold table receiving SOLD listings moved out of skins
+ *
+ * - Creates the table with the columns of skins plus archived_at (no JPA entity maps it)
+ * - Adds the columns Hibernate has added to skins since the archive was created, so rows
+ *   keep moving with every column (the move maps columns by name, see SkinJpaRepository)
+ * - Creates the analytics indexes
+ *
+ * Runs right after Hibernate has created/updated the tables (depends on the EntityManagerFactory).
+ * A failure is logged: archiving then fails until the next startup, the hot table is unaffected.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkinArchiveInitializer {
+    private static final String ARCHIVE_TABLE = "skins_archive";
+
+    private static final List<String> INDEXES = List.of(
+            // The same listing ID can be archived again after a relisting
+            "CREATE UNIQUE INDEX IF NOT EXISTS uk_skins_archive_id_archived ON " + ARCHIVE_TABLE + " (id, archived_at)",
+            "CREATE INDEX IF NOT EXISTS idx_skins_archive_item_updated ON " + ARCHIVE_TABLE + " (item_id, updated_at)",
+            "CREATE INDEX IF NOT EXISTS idx_skins_archive_archived_at ON " + ARCHIVE_TABLE + " (archived_at)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Injected only to guarantee Hibernate schema update has already run
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void initialize() {
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + ARCHIVE_TABLE + " (LIKE skins INCLUDING DEFAULTS)");
+            jdbcTemplate.execute("ALTER TABLE " + ARCHIVE_TABLE + " ADD COLUMN IF NOT EXISTS archived_at timestamp(6) NOT NULL DEFAULT localtimestamp");
+
+            int added = addMissingColumns();
+            INDEXES.forEach(jdbcTemplate::execute);
+
+            log.info("Skin archive ready ({} new columns)", added);
+        } catch (Exception e) {
+            log.error("Could not prepare {}: {}", ARCHIVE_TABLE, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Adds to the archive, as nullable columns, the columns of skins it does not have yet
+     *
+     * @return Number of columns added
+     */
+    private int addMissingColumns() {
+        List<Map<String, Object>> missing = jdbcTemplate.queryForList(
+                "SELECT a.attname AS name, format_type(a.atttypid, a.atttypmod) AS type " +
+                "FROM pg_attribute a " +
+                "WHERE a.attrelid = 'skins'::regclass AND a.attnum > 0 AND NOT a.attisdropped " +
+                "AND NOT EXISTS (SELECT 1 FROM pg_attribute b " +
+                "    WHERE b.attrelid = '" + ARCHIVE_TABLE + "'::regclass AND b.attname = a.attname AND NOT b.attisdropped) " +
+                "ORDER BY a.attnum");
+
+        for (Map<String, Object> column : missing) {
+            jdbcTemplate.execute("ALTER TABLE " + ARCHIVE_TABLE + " ADD COLUMN IF NOT EXISTS \"" +
+                    column.get("name") + "\" " + column.get("type"));
+        }
+
+        return missing.size();
+    }
+}
@@ -0,0 +1,276 @@
+package com.thetruemarket.api.infrastructure.search;
+
+import com.thetruemarket.api.domain.event.SkinSavedEvent;
+import com.thetruemarket.api.domain.event.SkinsMarkedAsSoldEvent;
+import com.thetruemarket.api.domain.model.Skin;
+import com.thetruemarket.api.domain.model.SkinFilter;
+import com.thetruemarket.api.domain.model.SkinNameMatch;
+import com.thetruemarket.api.domain.repository.SkinRepository;
+import com.thetruemarket.api.domain.service.SkinNameIndex;
+import com.thetruemarket.api.domain.valueobject.SkinStatus;
+import com.thetruemarket.api.infrastructure.persistence.entity.SkinImageEntity;
+import com.thetruemarket.api.infrastructure.persistence.repository.SkinImageJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory skin name index answering prefix and substring searches without the database
+ *
+ * Structure:
+ * - Sorted map of lower-cased names for prefix lookups
+ * - Trigram posting lists for substring lookups (the rarest trigram of the query
+ *   selects the candidates, which are then verified with contains)
+ * - Per name, the AVAILABLE listings keyed by skin ID, used for counts and best price
+ *
+ * Loaded once on startup from skins and skins_images, then kept up to date by
+ * ingest events (SkinSavedEvent) and stale-skin sweeps (SkinsMarkedAsSoldEvent).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InMemorySkinNameIndex implements SkinNameIndex {
+    private static final int GRAM_SIZE = 3;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final SkinRepository skinRepository;
+    private final SkinImageJpaRepository skinImageRepository;
+
+    private final ConcurrentMap<String, NameEntry> entriesByName = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<String, NameEntry> entriesByLowerName = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, Set<NameEntry>> postingsByTrigram = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> nameBySkinId = new ConcurrentHashMap<>();
+
+    /**
+     * Loads all known names and AVAILABLE listings once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+
+        for (SkinImageEntity image : skinImageRepository.findAll()) {
+            registerName(image.getSkinName(), image.getImageUrl());
+        }
+
+        List<Skin> availableSkins = skinRepository.findByFilter(SkinFilter.builder()
+                .status(SkinStatus.AVAILABLE)
+                .build());
+        availableSkins.forEach(this::recordListing);
+
+        log.info("Skin name index loaded: {} names, {} listings, {} trigrams in {} ms",
+                entriesByName.size(), nameBySkinId.size(), postingsByTrigram.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Follows the ingest path once the listing has been committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSkinSaved(SkinSavedEvent event) {
+        recordListing(event.getSkin());
+    }
+
+    /**
+     * Drops listings swept as SOLD by the stale-skin cleanup
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSkinsMarkedAsSold(SkinsMarkedAsSoldEvent event) {
+        removeListings(event.getSkinIds());
+    }
+
+    @Override
+    public void registerName(String skinName, String imageUrl) {
+        if (skinName == null || skinName.isBlank()) {
+            return;
+        }
+
+        NameEntry entry = entryFor(skinName);
+        if (imageUrl != null) {
+            entry.imageUrl = imageUrl;
+        }
+    }
+
+    @Override
+    public void recordListing(Skin skin) {
+        if (skin == null || skin.getId() == null || skin.getName() == null) {
+            return;
+        }
+
+        if (skin.getStatus() != null && skin.getStatus() != SkinStatus.AVAILABLE) {
+            removeListings(List.of(skin.getId()));
+            return;
+        }
+
+        // A listing can be renamed by the marketplace; drop it from the previous name first
+        String previousName = nameBySkinId.put(skin.getId(), skin.getName());
+        if (previousName != null && !previousName.equals(skin.getName())) {
+            NameEntry previous = entriesByName.get(previousName);
+            if (previous != null) {
+                previous.listings.remove(skin.getId());
+            }
+        }
+
+        entryFor(skin.getName()).listings.put(skin.getId(), skin);
+    }
+
+    @Override
+    public void removeListings(Collection<String> skinIds) {
+        for (String skinId : skinIds) {
+            String name = nameBySkinId.remove(skinId);
+            if (name == null) {
+                continue;
+            }
+
+            NameEntry entry = entriesByName.get(name);
+            if (entry != null) {
+                entry.listings.remove(skinId);
+            }
+        }
+    }
+
+    @Override
+    public List<SkinNameMatch> search(String query, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        String normalized = query.trim().toLowerCase(Locale.ROOT);
+
+        // LinkedHashMap keeps prefix matches ahead of substring matches without duplicates
+        Map<String, NameEntry> matches = new LinkedHashMap<>();
+
+        // Step 1: prefix matches, alphabetical order
+        for (NameEntry entry : entriesByLowerName
+                .subMap(normalized, true, normalized + Character.MAX_VALUE, true).values()) {
+            if (matches.size() >= limit) {
+                break;
+            }
+            matches.put(entry.name, entry);
+        }
+
+        // Step 2: substring matches, most listed first
+        if (matches.size() < limit) {
+            List<NameEntry> substringMatches = new ArrayList<>();
+            for (NameEntry candidate : candidatesFor(normalized)) {
+                if (!matches.containsKey(candidate.name) && candidate.lowerName.contains(normalized)) {
+                    substringMatches.add(candidate);
+                }
+            }
+
+            substringMatches.sort(Comparator.comparingInt((NameEntry entry) -> entry.listings.size()).reversed()
+                    .thenComparing(entry -> entry.lowerName));
+
+            for (NameEntry entry : substringMatches) {
+                if (matches.size() >= limit) {
+                    break;
+                }
+                matches.put(entry.name, entry);
+            }
+        }
+
+        List<SkinNameMatch> result = new ArrayList<>(matches.size());
+        for (NameEntry entry : matches.values()) {
+            result.add(entry.toMatch());
+        }
+
+        log.debug("Skin name search '{}' returned {} names in {} µs",
+                query, result.size(), (System.nanoTime() - start) / 1000);
+
+        return result;
+    }
+
+    /**
+     * Returns the entries that may contain the query
+     * Uses the smallest trigram posting list, or every entry for queries shorter than a trigram
+     */
+    private Collection<NameEntry> candidatesFor(String normalized) {
+        if (normalized.length() < GRAM_SIZE) {
+            return entriesByName.values();
+        }
+
+        Set<NameEntry> smallest = null;
+        for (String gram : trigramsOf(normalized)) {
+            Set<NameEntry> postings = postingsByTrigram.get(gram);
+            if (postings == null) {
+                // A trigram nobody has means no name can contain the query
+                return List.of();
+            }
+            if (smallest == null || postings.size() < smallest.size()) {
+                smallest = postings;
+            }
+        }
+
+        return smallest != null ? smallest : List.of();
+    }
+
+    /**
+     * Returns the entry for a name, indexing it on first sight
+     */
+    private NameEntry entryFor(String skinName) {
+        return entriesByName.computeIfAbsent(skinName, name -> {
+            NameEntry entry = new NameEntry(name);
+            entriesByLowerName.put(entry.lowerName + KEY_SEPARATOR + name, entry);
+            for (String gram : trigramsOf(entry.lowerName)) {
+                postingsByTrigram.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(entry);
+            }
+            return entry;
+        });
+    }
+
+    private static Set<String> trigramsOf(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * One distinct skin name with its live listings
+     */
+    private static final class NameEntry {
+        private final String name;
+        private final String lowerName;
+        private final ConcurrentMap<String, Skin> listings = new ConcurrentHashMap<>();
+        private volatile String imageUrl;
+
+        private NameEntry(String name) {
+            this.name = name;
+            this.lowerName = name.toLowerCase(Locale.ROOT);
+        }
+
+        private SkinNameMatch toMatch() {
+            Skin best = null;
+            for (Skin listing : listings.values()) {
+                if (listing.getPrice() != null && (best == null || listing.getPrice() < best.getPrice())) {
+                    best = listing;
+                }
+            }
+
+            return SkinNameMatch.builder()
+                    .skinName(name)
+                    .imageUrl(imageUrl)
+                    .listingCount(listings.size())
+                    .bestListing(best)
+                    .build();
+        }
+    }
+}
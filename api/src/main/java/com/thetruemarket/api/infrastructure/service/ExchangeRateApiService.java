@@ -45,20 +45,14 @@ public class ExchangeRateApiService implements CurrencyConversionService {
             return 0L;
         }
 
+        return convertBrlToUsd(amountInBrl, getBrlToUsdRate());
+    }
+
+    @Override
+    public double getBrlToUsdRate() {
         try {
             // Get exchange rate with TTL validation
-            Double exchangeRate = getExchangeRateWithTtl();
-
-            // Convert: BRL amount * exchange rate = USD amount
-            BigDecimal brlAmount = BigDecimal.valueOf(amountInBrl);
-            BigDecimal rate = BigDecimal.valueOf(exchangeRate);
-            BigDecimal usdAmount = brlAmount.multiply(rate).setScale(0, RoundingMode.HALF_UP);
-
-            Long result = usdAmount.longValue();
-
-            log.debug("Converted {} BRL cents to {} USD cents (rate: {})", amountInBrl, result, exchangeRate);
-
-            return result;
+            return getExchangeRateWithTtl();
 
         } catch (ExchangeRateUnavailableException e) {
             // Re-throw domain exception
@@ -69,6 +63,23 @@ public class ExchangeRateApiService implements CurrencyConversionService {
         }
     }
 
+    @Override
+    public Long convertBrlToUsd(Long amountInBrl, double rate) {
+        if (amountInBrl == null || amountInBrl == 0) {
+            return 0L;
+        }
+
+        // Convert: BRL amount * exchange rate = USD amount
+        BigDecimal brlAmount = BigDecimal.valueOf(amountInBrl);
+        BigDecimal usdAmount = brlAmount.multiply(BigDecimal.valueOf(rate)).setScale(0, RoundingMode.HALF_UP);
+
+        Long result = usdAmount.longValue();
+
+        log.debug("Converted {} BRL cents to {} USD cents (rate: {})", amountInBrl, result, rate);
+
+        return result;
+    }
+
     /**
      * Gets exchange rate with TTL validation and fallback strategy
      *
@@ -0,0 +1,56 @@
+package com.thetruemarket.api.infrastructure.service;
+
+import com.thetruemarket.api.domain.repository.JobStateRepository;
+import com.thetruemarket.api.infrastructure.config.HistoryDispatchConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Fixed-window budget limiting how many history update tasks are handed out per interval
+ * Keeps dispatch in line with the scraping throughput actually available, so capacity
+ * goes to the highest-priority tasks instead of being spread over everything
+ *
+ * The window counter lives in the job_state table (database clock), so the budget
+ * applies to the whole cluster whatever the number of API replicas.
+ */
+@Component
+@RequiredArgsConstructor
+public class HistoryDispatchBudget {
+    private static final String BUDGET_NAME = "HistoryDispatchBudget";
+
+    private final HistoryDispatchConfig config;
+    private final JobStateRepository jobStateRepository;
+
+    /**
+     * Reserves up to requested tasks from the current window
+     *
+     * @param requested Number of tasks the caller wants
+     * @return Number of tasks granted (0 when the window is exhausted)
+     */
+    public int acquire(int requested) {
+        if (config.getBudgetPerInterval() <= 0) {
+            return requested;
+        }
+
+        return jobStateRepository.acquireBudget(
+                BUDGET_NAME,
+                requested,
+                config.getBudgetPerInterval(),
+                Duration.ofSeconds(config.getBudgetIntervalSeconds())
+        );
+    }
+
+    /**
+     * Gives back tasks granted but not handed out (e.g., fewer tasks were claimable)
+     *
+     * @param unused Number of granted tasks that were not used
+     */
+    public void release(int unused) {
+        if (config.getBudgetPerInterval() <= 0 || unused <= 0) {
+            return;
+        }
+        jobStateRepository.releaseBudget(BUDGET_NAME, unused);
+    }
+}
@@ -0,0 +1,82 @@
+package com.thetruemarket.api.infrastructure.service;
+
+import com.thetruemarket.api.domain.model.TaskPriorityInput;
+import com.thetruemarket.api.domain.service.ProfitCalculationService;
+import com.thetruemarket.api.domain.service.TaskPriorityService;
+import com.thetruemarket.api.infrastructure.config.HistoryDispatchConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of TaskPriorityService
+ * priority = profitWeight × profitScore + listingWeight × listingScore + stalenessWeight × stalenessScore
+ *
+ * - profitScore: net profit (after Steam's fee) of the cheapest listing against the last
+ *   Steam average, mapped linearly from minProfitPercentage (0) to targetProfitPercentage (1).
+ *   Unknown (no history or no USD listing) scores 1: it must be discovered.
+ * - listingScore: log-scaled listing count, saturating at listingSaturation
+ * - stalenessScore: history age, saturating at stalenessSaturationSeconds (no history scores 1)
+ *
+ * Items that can never be profitable keep a low score but still refresh eventually,
+ * as their staleness score grows.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskPriorityServiceImpl implements TaskPriorityService {
+    private final ProfitCalculationService profitCalculationService;
+    private final HistoryDispatchConfig config;
+
+    @Override
+    public double calculatePriority(TaskPriorityInput input, LocalDateTime now) {
+        double priority = config.getProfitWeight() * profitScore(input)
+                + config.getListingWeight() * listingScore(input.getListingCount())
+                + config.getStalenessWeight() * stalenessScore(input.getLastRecordedAt(), now);
+
+        double totalWeight = config.getProfitWeight() + config.getListingWeight() + config.getStalenessWeight();
+        if (totalWeight <= 0) {
+            return 0.0;
+        }
+
+        // Normalize so the score stays in [0, 1] whatever the configured weights
+        return Math.round(priority / totalWeight * 10000.0) / 10000.0;
+    }
+
+    private double profitScore(TaskPriorityInput input) {
+        Long listingPrice = input.getBestListingPriceUsd();
+        Long steamPrice = input.getLastSteamAveragePriceUsd();
+
+        if (listingPrice == null || listingPrice <= 0 || steamPrice == null || steamPrice <= 0) {
+            return 1.0;
+        }
+
+        // ProfitResult.profitPercentage is in basis points
+        double profitPercentage = profitCalculationService
+                .calculateProfit(listingPrice, steamPrice, null, null)
+                .getProfitPercentage() / 100.0;
+
+        double range = config.getTargetProfitPercentage() - config.getMinProfitPercentage();
+        return clamp((profitPercentage - config.getMinProfitPercentage()) / range);
+    }
+
+    private double listingScore(int listingCount) {
+        if (listingCount <= 0) {
+            return 0.0;
+        }
+        return clamp(Math.log1p(listingCount) / Math.log1p(config.getListingSaturation()));
+    }
+
+    private double stalenessScore(LocalDateTime lastRecordedAt, LocalDateTime now) {
+        if (lastRecordedAt == null) {
+            return 1.0;
+        }
+        double ageSeconds = Duration.between(lastRecordedAt, now).getSeconds();
+        return clamp(ageSeconds / config.getStalenessSaturationSeconds());
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+}
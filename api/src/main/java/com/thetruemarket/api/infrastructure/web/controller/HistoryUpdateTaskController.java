@@ -1,23 +1,32 @@
 package com.thetruemarket.api.infrastructure.web.controller;
 
+import com.thetruemarket.api.application.usecase.BulkCompleteHistoryUpdateTasksUseCase;
+import com.thetruemarket.api.application.usecase.ClaimHistoryUpdateTasksUseCase;
 import com.thetruemarket.api.application.usecase.CompleteHistoryUpdateTaskUseCase;
 import com.thetruemarket.api.application.usecase.GetPendingTasksUseCase;
 import com.thetruemarket.api.domain.model.HistoryUpdateTask;
+import com.thetruemarket.api.infrastructure.config.HistoryDispatchConfig;
+import com.thetruemarket.api.infrastructure.web.dto.BulkCompleteHistoryUpdateItemRequest;
+import com.thetruemarket.api.infrastructure.web.dto.BulkCompleteHistoryUpdateResponse;
 import com.thetruemarket.api.infrastructure.web.dto.CompleteHistoryUpdateRequest;
 import com.thetruemarket.api.infrastructure.web.dto.CompleteHistoryUpdateResponse;
 import com.thetruemarket.api.infrastructure.web.dto.HistoryUpdateTaskResponse;
+import com.thetruemarket.api.infrastructure.web.longpoll.HistoryTaskClaimWaiters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * REST Controller for managing history update tasks
- * Exposes endpoints for retrieving pending tasks and completing them
+ * Exposes endpoints for retrieving pending tasks, claiming them (immediately or by long polling)
+ * and completing them
  */
 @RestController
 @RequestMapping("/api/v1/history-update-tasks")
@@ -26,6 +35,10 @@ import java.util.stream.Collectors;
 public class HistoryUpdateTaskController {
     private final GetPendingTasksUseCase getPendingTasksUseCase;
     private final CompleteHistoryUpdateTaskUseCase completeHistoryUpdateTaskUseCase;
+    private final BulkCompleteHistoryUpdateTasksUseCase bulkCompleteHistoryUpdateTasksUseCase;
+    private final ClaimHistoryUpdateTasksUseCase claimHistoryUpdateTasksUseCase;
+    private final HistoryTaskClaimWaiters historyTaskClaimWaiters;
+    private final HistoryDispatchConfig historyDispatchConfig;
 
     /**
      * GET /api/v1/history-update-tasks
@@ -48,6 +61,70 @@ public class HistoryUpdateTaskController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * POST /api/v1/history-update-tasks/claim
+     * Claims up to limit tasks for a worker under a lease (tasks move to IN_PROGRESS)
+     * Concurrent workers never receive the same task; expired leases are reclaimed
+     *
+     * @param workerId Identifier of the claiming worker
+     * @param limit Maximum number of tasks to claim (optional, defaults to 10)
+     * @return List of claimed tasks in FIFO order
+     */
+    @PostMapping("/claim")
+    public ResponseEntity<List<HistoryUpdateTaskResponse>> claimTasks(
+            @RequestParam String workerId,
+            @RequestParam(required = false) Integer limit
+    ) {
+        log.info("POST /api/v1/history-update-tasks/claim - workerId={}, limit={}", workerId, limit);
+
+        try {
+            List<HistoryUpdateTaskResponse> response = claimHistoryUpdateTasksUseCase.execute(workerId, limit).stream()
+                    .map(HistoryUpdateTaskResponse::fromDomain)
+                    .collect(Collectors.toList());
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid claim request from worker {}: {}", workerId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * POST /api/v1/history-update-tasks/claim/wait
+     * Long-polling variant of /claim: if no task is available, the request is held
+     * (async, without a request thread) until new tasks are created or the wait times out
+     *
+     * @param workerId Identifier of the claiming worker
+     * @param limit Maximum number of tasks to claim (optional, defaults to 10)
+     * @param timeoutSeconds Maximum wait (optional, defaults to and capped by history.dispatch.max-claim-wait-seconds)
+     * @return Deferred list of claimed tasks, empty if the wait timed out
+     */
+    @PostMapping("/claim/wait")
+    public DeferredResult<List<HistoryUpdateTaskResponse>> claimTasksOrWait(
+            @RequestParam String workerId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Integer timeoutSeconds
+    ) {
+        log.info("POST /api/v1/history-update-tasks/claim/wait - workerId={}, limit={}, timeoutSeconds={}",
+                workerId, limit, timeoutSeconds);
+
+        int maxWaitSeconds = historyDispatchConfig.getMaxClaimWaitSeconds();
+        int waitSeconds = timeoutSeconds != null && timeoutSeconds > 0
+                ? Math.min(timeoutSeconds, maxWaitSeconds)
+                : maxWaitSeconds;
+
+        try {
+            return historyTaskClaimWaiters.claimOrWait(workerId, limit, Duration.ofSeconds(waitSeconds));
+
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid claim request from worker {}: {}", workerId, e.getMessage());
+            DeferredResult<List<HistoryUpdateTaskResponse>> badRequest = new DeferredResult<>();
+            badRequest.setErrorResult(ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
+            return badRequest;
+        }
+    }
+
     /**
      * POST /api/v1/history-update-tasks/{taskId}/complete
      * Completes a history update task by providing the Steam price history data
@@ -100,4 +177,39 @@ public class HistoryUpdateTaskController {
                             .build());
         }
     }
+
+    /**
+     * POST /api/v1/history-update-tasks/complete
+     * Completes many tasks in one request and one transaction
+     * Each result is validated on its own; invalid ones are reported as REJECTED
+     * without affecting the others
+     *
+     * @param request Array of results, each with its task ID
+     * @return Per-item status in request order
+     */
+    @PostMapping("/complete")
+    public ResponseEntity<BulkCompleteHistoryUpdateResponse> completeTasks(
+            @RequestBody List<BulkCompleteHistoryUpdateItemRequest> request
+    ) {
+        log.info("POST /api/v1/history-update-tasks/complete - Completing {} tasks", request.size());
+
+        try {
+            BulkCompleteHistoryUpdateResponse response = BulkCompleteHistoryUpdateResponse.fromDomain(
+                    bulkCompleteHistoryUpdateTasksUseCase.execute(request.stream()
+                            .map(BulkCompleteHistoryUpdateItemRequest::toDomain)
+                            .collect(Collectors.toList())));
+
+            log.info("Bulk completion: {} completed, {} rejected", response.getCompleted(), response.getRejected());
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid bulk completion request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+
+        } catch (Exception e) {
+            log.error("Error completing {} tasks: {}", request.size(), e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package com.thetruemarket.api.infrastructure.web.controller;
+
+import com.thetruemarket.api.infrastructure.job.ScheduledJobExecutor;
+import com.thetruemarket.api.infrastructure.web.dto.JobExecutionStatsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST Controller exposing scheduled job telemetry of this instance
+ * Actuator-style read-only endpoint for spotting jobs that fall behind their cadence
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class JobTelemetryController {
+    private final ScheduledJobExecutor scheduledJobExecutor;
+
+    /**
+     * GET /api/v1/jobs
+     * Returns execution telemetry for every scheduled job on this instance
+     *
+     * @return List of job telemetry ordered by job name
+     */
+    @GetMapping
+    public ResponseEntity<List<JobExecutionStatsResponse>> getJobStats() {
+        log.debug("GET /api/v1/jobs");
+
+        List<JobExecutionStatsResponse> response = scheduledJobExecutor.getStats().stream()
+                .map(JobExecutionStatsResponse::fromSnapshot)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+}
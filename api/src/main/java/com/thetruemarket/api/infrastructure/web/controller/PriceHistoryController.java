@@ -0,0 +1,65 @@
+package com.thetruemarket.api.infrastructure.web.controller;
+
+import com.thetruemarket.api.application.usecase.GetPriceHistorySeriesUseCase;
+import com.thetruemarket.api.domain.model.PriceHistoryPoint;
+import com.thetruemarket.api.domain.valueobject.HistoryBucket;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import com.thetruemarket.api.infrastructure.web.dto.PriceHistorySeriesResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST Controller for reading Steam price history
+ * Exposes bucketed series (1h, 1d, 1w) for charting, read from the history rollups
+ */
+@RestController
+@RequestMapping("/api/v1/price-history")
+@RequiredArgsConstructor
+@Slf4j
+public class PriceHistoryController {
+    private final GetPriceHistorySeriesUseCase getPriceHistorySeriesUseCase;
+
+    /**
+     * GET /api/v1/price-history
+     * Returns the bucketed price series of a skin name and wear as parallel arrays
+     *
+     * @param skinName Skin name (e.g., "AK-47 | Redline")
+     * @param wear Wear category (e.g., FIELD_TESTED)
+     * @param bucket Bucket size: "1h", "1d" or "1w" (optional, defaults to "1h")
+     * @param from Range start, ISO date-time (optional, defaults to 7 days / 180 days / 3 years before to)
+     * @param to Range end, exclusive, ISO date-time (optional, defaults to now)
+     * @return The series, only buckets with data
+     */
+    @GetMapping
+    public ResponseEntity<PriceHistorySeriesResponse> getSeries(
+            @RequestParam String skinName,
+            @RequestParam Wear wear,
+            @RequestParam(required = false, defaultValue = "1h") String bucket,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        log.debug("GET /api/v1/price-history - skinName={}, wear={}, bucket={}, from={}, to={}",
+                skinName, wear, bucket, from, to);
+
+        try {
+            HistoryBucket historyBucket = HistoryBucket.fromCode(bucket);
+            List<PriceHistoryPoint> points = getPriceHistorySeriesUseCase.execute(skinName, wear, historyBucket, from, to);
+
+            return ResponseEntity.ok(PriceHistorySeriesResponse.fromDomain(skinName, wear, historyBucket, points));
+
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid price history request for {} ({}): {}", skinName, wear, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.thetruemarket.api.infrastructure.web.controller;
 
 import com.thetruemarket.api.application.dto.ProfitAnalysis;
 import com.thetruemarket.api.application.usecase.GetProfitableSkinsUseCase;
+import com.thetruemarket.api.domain.model.SkinFilter;
+import com.thetruemarket.api.domain.valueobject.SkinStatus;
+import com.thetruemarket.api.domain.valueobject.Wear;
 import com.thetruemarket.api.infrastructure.web.dto.ProfitableSkinResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +33,14 @@ public class SkinProfitController {
      * @param maxResults Maximum number of results to return (optional)
      * @param sortBy Field to sort by: "profit", "discount", "gain" (optional, defaults to "profit")
      * @param order Sort order: "asc" or "desc" (optional, defaults to "desc")
+     * @param status Listing status (optional, defaults to AVAILABLE)
+     * @param marketSource Market sources to include, repeatable (optional, e.g. "bitskins")
+     * @param wear Wear categories to include, repeatable (optional, e.g. FIELD_TESTED)
+     * @param minPrice Minimum market price in USD cents (optional)
+     * @param maxPrice Maximum market price in USD cents (optional)
+     * @param minFloat Minimum float value between 0 and 1 (optional)
+     * @param maxFloat Maximum float value between 0 and 1 (optional)
+     * @param name Case-insensitive substring of the skin name (optional)
      * @return List of profitable skins with profit analysis
      */
     @GetMapping("/profitable")
@@ -37,13 +48,35 @@ public class SkinProfitController {
             @RequestParam(required = false) Double minProfit,
             @RequestParam(required = false) Integer maxResults,
             @RequestParam(required = false, defaultValue = "profit") String sortBy,
-            @RequestParam(required = false, defaultValue = "desc") String order
+            @RequestParam(required = false, defaultValue = "desc") String order,
+            @RequestParam(required = false, defaultValue = "AVAILABLE") SkinStatus status,
+            @RequestParam(required = false) List<String> marketSource,
+            @RequestParam(required = false) List<Wear> wear,
+            @RequestParam(required = false) Long minPrice,
+            @RequestParam(required = false) Long maxPrice,
+            @RequestParam(required = false) Double minFloat,
+            @RequestParam(required = false) Double maxFloat,
+            @RequestParam(required = false) String name
     ) {
-        log.info("GET /api/v1/skins/profitable - minProfit={}, maxResults={}, sortBy={}, order={}",
-                minProfit, maxResults, sortBy, order);
+        log.info("GET /api/v1/skins/profitable - minProfit={}, maxResults={}, sortBy={}, order={}, status={}, " +
+                        "marketSource={}, wear={}, price=[{}, {}], float=[{}, {}], name={}",
+                minProfit, maxResults, sortBy, order, status, marketSource, wear, minPrice, maxPrice,
+                minFloat, maxFloat, name);
+
+        SkinFilter filter = SkinFilter.builder()
+                .status(status)
+                .marketSources(marketSource)
+                .wears(wear)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minFloat(minFloat)
+                .maxFloat(maxFloat)
+                .nameQuery(name)
+                .build();
 
         try {
             List<ProfitAnalysis> profitAnalyses = getProfitableSkinsUseCase.execute(
+                    filter,
                     minProfit,
                     maxResults,
                     sortBy,
@@ -0,0 +1,82 @@
+package com.thetruemarket.api.infrastructure.web.controller;
+
+import com.thetruemarket.api.application.usecase.FindSkinsByStickerUseCase;
+import com.thetruemarket.api.application.usecase.SearchSkinNamesUseCase;
+import com.thetruemarket.api.infrastructure.web.dto.SkinNameSearchResponse;
+import com.thetruemarket.api.infrastructure.web.dto.StickerListingResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST Controller for skin search
+ * Exposes an autocomplete endpoint backed by the in-memory name index
+ * and a sticker lookup backed by the sticker GIN index
+ */
+@RestController
+@RequestMapping("/api/v1/skins")
+@RequiredArgsConstructor
+@Slf4j
+public class SkinSearchController {
+    private final SearchSkinNamesUseCase searchSkinNamesUseCase;
+    private final FindSkinsByStickerUseCase findSkinsByStickerUseCase;
+
+    /**
+     * GET /api/v1/skins/search
+     * Searches skin names by prefix or substring
+     *
+     * @param q Case-insensitive prefix or substring (e.g., "ak-47 | red")
+     * @param limit Maximum number of names to return (optional, defaults to 10, max 50)
+     * @return Matching names with listing counts and best current listing
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<SkinNameSearchResponse>> searchSkinNames(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit
+    ) {
+        log.debug("GET /api/v1/skins/search - q={}, limit={}", q, limit);
+
+        List<SkinNameSearchResponse> response = searchSkinNamesUseCase.execute(q, limit).stream()
+                .map(SkinNameSearchResponse::fromDomain)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/skins/by-sticker
+     * Finds AVAILABLE listings carrying a given sticker, cheapest first
+     *
+     * @param name Exact sticker name (optional if classId is given)
+     * @param classId Exact sticker class ID (optional if name is given)
+     * @param limit Maximum number of listings to return (optional, defaults to 50, max 500)
+     * @return Matching listings with all their stickers, or 400 if no criterion is given
+     */
+    @GetMapping("/by-sticker")
+    public ResponseEntity<List<StickerListingResponse>> findBySticker(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String classId,
+            @RequestParam(required = false) Integer limit
+    ) {
+        log.debug("GET /api/v1/skins/by-sticker - name={}, classId={}, limit={}", name, classId, limit);
+
+        try {
+            List<StickerListingResponse> response = findSkinsByStickerUseCase.execute(name, classId, limit).stream()
+                    .map(StickerListingResponse::fromDomain)
+                    .collect(Collectors.toList());
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid sticker search: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+}
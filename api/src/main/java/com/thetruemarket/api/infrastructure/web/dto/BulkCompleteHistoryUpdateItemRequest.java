@@ -0,0 +1,68 @@
+package com.thetruemarket.api.infrastructure.web.dto;
+
+import com.thetruemarket.api.domain.model.HistoryUpdateResult;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for one result of a bulk completion
+ * Used in POST /api/v1/history-update-tasks/complete (the body is an array of these)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCompleteHistoryUpdateItemRequest {
+    /**
+     * ID of the task being completed
+     * Required field
+     */
+    private Long taskId;
+
+    /**
+     * Skin name (e.g., "AK-47 | Redline"); must match the task
+     * Required field
+     */
+    private String skinName;
+
+    /**
+     * Wear category; must match the task
+     * Required field
+     */
+    private Wear wear;
+
+    /**
+     * Average price from recent Steam sales in BRL (Brazilian Reais, in cents)
+     * Required field
+     */
+    private Long averagePrice;
+
+    /**
+     * Price of the last sale in BRL (Brazilian Reais, in cents)
+     * Required field
+     */
+    private Long lastSalePrice;
+
+    /**
+     * Price of the lowest buy order in USD (cents)
+     * Required field
+     */
+    private Long lowestBuyOrderPrice;
+
+    /**
+     * Converts to the domain result
+     */
+    public HistoryUpdateResult toDomain() {
+        return HistoryUpdateResult.builder()
+                .taskId(taskId)
+                .skinName(skinName)
+                .wear(wear)
+                .averagePriceInBrl(averagePrice)
+                .lastSalePriceInBrl(lastSalePrice)
+                .lowestBuyOrderPriceInUsd(lowestBuyOrderPrice)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.thetruemarket.api.infrastructure.web.dto;
+
+import com.thetruemarket.api.domain.model.HistoryCompletionOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Response DTO for a bulk completion
+ * Used in POST /api/v1/history-update-tasks/complete response
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCompleteHistoryUpdateResponse {
+    private int completed;
+    private int rejected;
+    private List<ItemResult> results;
+
+    /**
+     * Outcome of one result, in request order
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private Long taskId;
+        private String status;
+        private String message;
+    }
+
+    /**
+     * Creates a response DTO from the domain outcomes
+     */
+    public static BulkCompleteHistoryUpdateResponse fromDomain(List<HistoryCompletionOutcome> outcomes) {
+        List<ItemResult> results = outcomes.stream()
+                .map(outcome -> ItemResult.builder()
+                        .taskId(outcome.getTaskId())
+                        .status(outcome.isCompleted() ? "COMPLETED" : "REJECTED")
+                        .message(outcome.getError())
+                        .build())
+                .collect(Collectors.toList());
+
+        int completed = (int) outcomes.stream().filter(HistoryCompletionOutcome::isCompleted).count();
+
+        return BulkCompleteHistoryUpdateResponse.builder()
+                .completed(completed)
+                .rejected(outcomes.size() - completed)
+                .results(results)
+                .build();
+    }
+}
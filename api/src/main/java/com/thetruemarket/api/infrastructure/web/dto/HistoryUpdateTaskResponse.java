@@ -25,6 +25,9 @@ public class HistoryUpdateTaskResponse {
     private TaskStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime finishedAt;
+    private String claimedBy;
+    private LocalDateTime leaseExpiresAt;
+    private Double priority;
 
     /**
      * Creates a response DTO from a domain entity
@@ -37,6 +40,9 @@ public class HistoryUpdateTaskResponse {
                 .status(task.getStatus())
                 .createdAt(task.getCreatedAt())
                 .finishedAt(task.getFinishedAt())
+                .claimedBy(task.getClaimedBy())
+                .leaseExpiresAt(task.getLeaseExpiresAt())
+                .priority(task.getPriority())
                 .build();
     }
 }
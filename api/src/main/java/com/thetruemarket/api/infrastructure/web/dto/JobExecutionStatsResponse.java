@@ -0,0 +1,90 @@
+package com.thetruemarket.api.infrastructure.web.dto;
+
+import com.thetruemarket.api.infrastructure.job.JobExecutionStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for scheduled job telemetry
+ * Used in GET /api/v1/jobs
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobExecutionStatsResponse {
+    private String jobName;
+
+    /**
+     * Whether the job is running on this instance right now
+     */
+    private Boolean running;
+
+    /**
+     * Runs executed on this instance (successful + failed)
+     */
+    private Long runCount;
+
+    private Long failureCount;
+
+    /**
+     * Ticks skipped because another instance held the cluster lock
+     */
+    private Long skippedLockedCount;
+
+    /**
+     * Ticks skipped because the previous run on this instance was still in progress
+     */
+    private Long overlapCount;
+
+    private Long totalItemsProcessed;
+
+    private Integer lastItemsProcessed;
+
+    private Long lastDurationMs;
+
+    private Long maxDurationMs;
+
+    /**
+     * Time between the last two starts on this instance; compare with the configured interval
+     */
+    private Long lastStartIntervalMs;
+
+    private LocalDateTime lastStartedAt;
+
+    private LocalDateTime lastFinishedAt;
+
+    private LocalDateTime lastSuccessAt;
+
+    private LocalDateTime lastFailureAt;
+
+    private String lastFailureMessage;
+
+    /**
+     * Creates a response DTO from a telemetry snapshot
+     */
+    public static JobExecutionStatsResponse fromSnapshot(JobExecutionStats.Snapshot snapshot) {
+        return JobExecutionStatsResponse.builder()
+                .jobName(snapshot.jobName())
+                .running(snapshot.running())
+                .runCount(snapshot.runCount())
+                .failureCount(snapshot.failureCount())
+                .skippedLockedCount(snapshot.skippedLockedCount())
+                .overlapCount(snapshot.overlapCount())
+                .totalItemsProcessed(snapshot.totalItemsProcessed())
+                .lastItemsProcessed(snapshot.lastItemsProcessed())
+                .lastDurationMs(snapshot.lastDurationMs())
+                .maxDurationMs(snapshot.maxDurationMs())
+                .lastStartIntervalMs(snapshot.lastStartIntervalMs())
+                .lastStartedAt(snapshot.lastStartedAt())
+                .lastFinishedAt(snapshot.lastFinishedAt())
+                .lastSuccessAt(snapshot.lastSuccessAt())
+                .lastFailureAt(snapshot.lastFailureAt())
+                .lastFailureMessage(snapshot.lastFailureMessage())
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.thetruemarket.api.infrastructure.web.dto;
+
+import com.thetruemarket.api.domain.model.PriceHistoryPoint;
+import com.thetruemarket.api.domain.valueobject.HistoryBucket;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for a bucketed price history series
+ * Used in GET /api/v1/price-history
+ * Columnar shape: index i of every array describes the same bucket, which keeps the
+ * payload compact and maps directly onto chart libraries
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceHistorySeriesResponse {
+    /**
+     * Skin name
+     */
+    private String skinName;
+
+    /**
+     * Wear category
+     */
+    private Wear wear;
+
+    /**
+     * Bucket size ("1h", "1d" or "1w")
+     */
+    private String bucket;
+
+    /**
+     * Start of each bucket
+     */
+    private List<LocalDateTime> bucketStart;
+
+    /**
+     * Lowest average price of each bucket in USD (cents)
+     */
+    private List<Long> minAveragePrice;
+
+    /**
+     * Highest average price of each bucket in USD (cents)
+     */
+    private List<Long> maxAveragePrice;
+
+    /**
+     * Mean average price of each bucket in USD (cents)
+     */
+    private List<Long> avgAveragePrice;
+
+    /**
+     * Mean last sale price of each bucket in USD (cents)
+     */
+    private List<Long> avgLastSalePrice;
+
+    /**
+     * Mean lowest buy order price of each bucket in USD (cents)
+     */
+    private List<Long> avgLowestBuyOrderPrice;
+
+    /**
+     * Number of raw history rows behind each bucket
+     */
+    private List<Long> sampleCount;
+
+    /**
+     * Creates a columnar response from domain points
+     */
+    public static PriceHistorySeriesResponse fromDomain(String skinName, Wear wear, HistoryBucket bucket,
+                                                        List<PriceHistoryPoint> points) {
+        PriceHistorySeriesResponse response = PriceHistorySeriesResponse.builder()
+                .skinName(skinName)
+                .wear(wear)
+                .bucket(bucket.getCode())
+                .bucketStart(new ArrayList<>(points.size()))
+                .minAveragePrice(new ArrayList<>(points.size()))
+                .maxAveragePrice(new ArrayList<>(points.size()))
+                .avgAveragePrice(new ArrayList<>(points.size()))
+                .avgLastSalePrice(new ArrayList<>(points.size()))
+                .avgLowestBuyOrderPrice(new ArrayList<>(points.size()))
+                .sampleCount(new ArrayList<>(points.size()))
+                .build();
+
+        for (PriceHistoryPoint point : points) {
+            response.bucketStart.add(point.getBucketStart());
+            response.minAveragePrice.add(point.getMinAveragePrice());
+            response.maxAveragePrice.add(point.getMaxAveragePrice());
+            response.avgAveragePrice.add(point.getAvgAveragePrice());
+            response.avgLastSalePrice.add(point.getAvgLastSalePrice());
+            response.avgLowestBuyOrderPrice.add(point.getAvgLowestBuyOrderPrice());
+            response.sampleCount.add(point.getSampleCount());
+        }
+
+        return response;
+    }
+}
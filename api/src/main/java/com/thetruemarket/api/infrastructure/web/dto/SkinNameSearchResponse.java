@@ -0,0 +1,86 @@
+package com.thetruemarket.api.infrastructure.web.dto;
+
+import com.thetruemarket.api.domain.model.Skin;
+import com.thetruemarket.api.domain.model.SkinNameMatch;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for skin name search results
+ * Used in GET /api/v1/skins/search
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkinNameSearchResponse {
+    /**
+     * Full skin name (e.g., "AK-47 | Redline (Field-Tested)")
+     */
+    private String skinName;
+
+    /**
+     * URL of the skin image
+     */
+    private String imageUrl;
+
+    /**
+     * Number of AVAILABLE listings with this name
+     */
+    private Integer listingCount;
+
+    /**
+     * ID of the cheapest AVAILABLE listing (null if there is none)
+     */
+    private String bestSkinId;
+
+    /**
+     * Price of the cheapest listing in cents
+     */
+    private Long bestPrice;
+
+    /**
+     * Currency of the cheapest listing
+     */
+    private String bestCurrency;
+
+    /**
+     * Market source of the cheapest listing (e.g., "bitskins")
+     */
+    private String bestMarketSource;
+
+    /**
+     * Wear category of the cheapest listing
+     */
+    private Wear bestWear;
+
+    /**
+     * Direct link to the cheapest listing
+     */
+    private String bestLink;
+
+    /**
+     * Creates a response DTO from a domain search match
+     */
+    public static SkinNameSearchResponse fromDomain(SkinNameMatch match) {
+        SkinNameSearchResponseBuilder builder = SkinNameSearchResponse.builder()
+                .skinName(match.getSkinName())
+                .imageUrl(match.getImageUrl())
+                .listingCount(match.getListingCount());
+
+        Skin best = match.getBestListing();
+        if (best != null) {
+            builder.bestSkinId(best.getId())
+                    .bestPrice(best.getPrice())
+                    .bestCurrency(best.getCurrency())
+                    .bestMarketSource(best.getMarketSource())
+                    .bestWear(best.getWear())
+                    .bestLink(best.getLink());
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.thetruemarket.api.infrastructure.web.dto;
+
+import com.thetruemarket.api.domain.model.Skin;
+import com.thetruemarket.api.domain.model.Sticker;
+import com.thetruemarket.api.domain.valueobject.Wear;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Response DTO for AVAILABLE listings carrying a given sticker
+ * Used in GET /api/v1/skins/by-sticker
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StickerListingResponse {
+    /**
+     * Unique identifier of the skin
+     */
+    private String skinId;
+
+    /**
+     * Skin name (e.g., "AK-47 | Redline (Field-Tested)")
+     */
+    private String skinName;
+
+    /**
+     * Wear category
+     */
+    private Wear wear;
+
+    /**
+     * Float value (0.00 - 1.00), null when unknown
+     */
+    private Double floatValue;
+
+    /**
+     * Market price in cents (original currency)
+     */
+    private Long price;
+
+    /**
+     * Currency of the market price
+     */
+    private String currency;
+
+    /**
+     * Market source (e.g., "bitskins")
+     */
+    private String marketSource;
+
+    /**
+     * Direct link to the item on the marketplace
+     */
+    private String link;
+
+    /**
+     * Every sticker applied to the skin, not only the matching one
+     */
+    private List<StickerItem> stickers;
+
+    /**
+     * When the listing was last seen by a bot
+     */
+    private LocalDateTime lastSeenAt;
+
+    /**
+     * Creates a response DTO from a domain skin
+     */
+    public static StickerListingResponse fromDomain(Skin skin) {
+        List<StickerItem> stickers = skin.getStickers() == null ? List.of() : skin.getStickers().stream()
+                .map(StickerItem::fromDomain)
+                .collect(Collectors.toList());
+
+        return StickerListingResponse.builder()
+                .skinId(skin.getId())
+                .skinName(skin.getName())
+                .wear(skin.getWear())
+                .floatValue(skin.getFloatValue())
+                .price(skin.getPrice())
+                .currency(skin.getCurrency())
+                .marketSource(skin.getMarketSource())
+                .link(skin.getLink())
+                .stickers(stickers)
+                .lastSeenAt(skin.getLastSeenAt())
+                .build();
+    }
+
+    /**
+     * One sticker applied to the listing
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StickerItem {
+        private String name;
+        private Integer slot;
+        private Double wear;
+        private String classId;
+
+        public static StickerItem fromDomain(Sticker sticker) {
+            return StickerItem.builder()
+                    .name(sticker.getName())
+                    .slot(sticker.getSlot())
+                    .wear(sticker.getWear())
+                    .classId(sticker.getClassId())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.thetruemarket.api.infrastructure.web.longpoll;
+
+import com.thetruemarket.api.application.usecase.ClaimHistoryUpdateTasksUseCase;
+import com.thetruemarket.api.domain.event.HistoryUpdateTasksCreatedEvent;
+import com.thetruemarket.api.domain.model.HistoryUpdateTask;
+import com.thetruemarket.api.infrastructure.web.dto.HistoryUpdateTaskResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Parks long-polling claim requests until tasks are created or their wait times out
+ *
+ * Waiters are held as DeferredResults (async servlet handling), so an idle waiter does
+ * not keep a request thread. Each request claims once on arrival; after that, waiters
+ * are only served when new tasks are announced: by a HistoryUpdateTasksCreatedEvent for
+ * tasks created on this instance, or through the history.update.created fanout for tasks
+ * created on the others (HistoryTasksCreatedConsumer). Waiters are then served in arrival
+ * order on a single thread and serving stops at the first empty claim, so one wake-up runs
+ * at most one claim that finds nothing, however many waiters there are.
+ *
+ * Tasks that become claimable again through an expired lease are not announced; waiters
+ * pick them up on their next request.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HistoryTaskClaimWaiters {
+    private final ClaimHistoryUpdateTasksUseCase claimHistoryUpdateTasksUseCase;
+
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final ExecutorService wakeUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-claim-wakeup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Claims tasks for a worker, waiting up to {@code wait} if none are available
+     * Completes with an empty list when the wait times out
+     *
+     * @param workerId Identifier of the claiming worker
+     * @param limit    Maximum number of tasks (see ClaimHistoryUpdateTasksUseCase)
+     * @param wait     Maximum time to hold the request
+     * @return Deferred list of claimed tasks
+     * @throws IllegalArgumentException if workerId is blank
+     */
+    public DeferredResult<List<HistoryUpdateTaskResponse>> claimOrWait(String workerId, Integer limit, Duration wait) {
+        DeferredResult<List<HistoryUpdateTaskResponse>> result = new DeferredResult<>(wait.toMillis());
+        Waiter waiter = new Waiter(workerId, limit, result);
+
+        result.onTimeout(() -> waiter.complete(List.of()));
+        result.onCompletion(() -> waiters.remove(waiter));
+
+        // Registered before the first claim, so tasks created in between are announced to it
+        waiters.add(waiter);
+        try {
+            tryClaim(waiter);
+        } catch (RuntimeException e) {
+            waiters.remove(waiter);
+            throw e;
+        }
+
+        return result;
+    }
+
+    /**
+     * Wakes waiters once newly created tasks have been committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksCreated(HistoryUpdateTasksCreatedEvent event) {
+        wakeUp(event.getCount());
+    }
+
+    /**
+     * Serves waiting requests after tasks were created, here or on another instance
+     *
+     * @param createdCount Number of created tasks
+     */
+    public void wakeUp(int createdCount) {
+        if (createdCount > 0 && !waiters.isEmpty()) {
+            wakeUpExecutor.execute(() -> serveWaiters(createdCount));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wakeUpExecutor.shutdownNow();
+    }
+
+    private void serveWaiters(int createdCount) {
+        int remaining = createdCount;
+
+        for (Waiter waiter : waiters) {
+            if (remaining <= 0) {
+                break;
+            }
+
+            try {
+                int claimed = tryClaim(waiter);
+                if (claimed == 0) {
+                    // Nothing left to claim (or dispatch budget exhausted)
+                    break;
+                }
+                if (claimed > 0) {
+                    remaining -= claimed;
+                }
+            } catch (Exception e) {
+                log.warn("Could not serve waiting worker {}: {}", waiter.workerId, e.getMessage());
+                break;
+            }
+        }
+    }
+
+    /**
+     * Claims for a waiter and completes it if tasks were found
+     *
+     * @return Number of tasks handed to the waiter, -1 if it was already completed
+     */
+    private int tryClaim(Waiter waiter) {
+        // Holding the waiter lock keeps the timeout from completing it while tasks are being claimed
+        synchronized (waiter) {
+            if (waiter.result.isSetOrExpired()) {
+                return -1;
+            }
+
+            List<HistoryUpdateTask> tasks = claimHistoryUpdateTasksUseCase.execute(waiter.workerId, waiter.limit);
+            if (tasks.isEmpty()) {
+                return 0;
+            }
+
+            waiter.complete(tasks.stream()
+                    .map(HistoryUpdateTaskResponse::fromDomain)
+                    .collect(Collectors.toList()));
+            return tasks.size();
+        }
+    }
+
+    /**
+     * One parked claim request
+     */
+    private static final class Waiter {
+        private final String workerId;
+        private final Integer limit;
+        private final DeferredResult<List<HistoryUpdateTaskResponse>> result;
+
+        private Waiter(String workerId, Integer limit, DeferredResult<List<HistoryUpdateTaskResponse>> result) {
+            this.workerId = workerId;
+            this.limit = limit;
+            this.result = result;
+        }
+
+        private synchronized void complete(List<HistoryUpdateTaskResponse> tasks) {
+            result.setResult(tasks);
+        }
+    }
+}